@@ -1,10 +1,13 @@
 package com.rivelbop.osmigine.android;
 
+import android.content.pm.PackageManager;
 import android.os.Bundle;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.backends.android.AndroidApplication;
 import com.badlogic.gdx.backends.android.AndroidApplicationConfiguration;
 import com.rivelbop.osmigine.Osmigine;
+import com.rivelbop.osmigine.audio.AudioSystem;
 
 import org.jaudiotagger.tag.TagOptionSingleton;
 
@@ -20,5 +23,13 @@ public class AndroidLauncher extends AndroidApplication {
         AndroidApplicationConfiguration configuration = new AndroidApplicationConfiguration();
         configuration.useImmersiveMode = true; // Recommended, but not required.
         initialize(new Osmigine(), configuration);
+
+        // Internal assets have no last modified time, an app update is what replaces them
+        try {
+            AudioSystem.getDurationIndex().setAssetsVersion(
+                    getPackageManager().getPackageInfo(getPackageName(), 0).lastUpdateTime);
+        } catch (PackageManager.NameNotFoundException e) {
+            Gdx.app.error("AndroidLauncher", "Error reading the app version: " + e.getMessage());
+        }
     }
 }
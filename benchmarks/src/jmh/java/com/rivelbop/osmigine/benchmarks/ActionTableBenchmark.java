@@ -0,0 +1,102 @@
+package com.rivelbop.osmigine.benchmarks;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.controllers.ControllerMapping;
+import com.rivelbop.osmigine.input.ActionTable;
+import com.rivelbop.osmigine.input.ControllerSystem;
+import com.rivelbop.osmigine.input.CursorProvider;
+import com.rivelbop.osmigine.input.InputMap;
+import com.rivelbop.osmigine.input.InputSystem;
+import com.rivelbop.osmigine.input.InputTrigger;
+import com.rivelbop.osmigine.input.ReplayController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.badlogic.gdx.controllers.ControllerMapping.UNDEFINED;
+
+/**
+ * A frame of action queries (every action, for every player, queried a few times), through the
+ * InputMap directly and through a compiled ActionTable (evaluated once, then bit tests).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ActionTableBenchmark {
+    private static final BenchmarkActions[] ACTIONS = BenchmarkActions.values();
+
+    @Param({"1", "4"})
+    public int players;
+
+    @Param({"3"})
+    public int queriesPerFrame;
+
+    private InputSystem inputs;
+    private InputMap<BenchmarkActions> inputMap;
+    private ActionTable<BenchmarkActions> actionTable;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HeadlessRuntime.start();
+
+        inputs = new InputSystem(new CursorProvider.Default(), false);
+        ControllerSystem controllers = new ControllerSystem(false);
+        ControllerMapping mapping = new ControllerMapping(0, 1, 2, 3, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9,
+                10, 11, 12, 13, 14, UNDEFINED);
+        for (int player = 0; player < players; player++) {
+            controllers.getControllerProcessor()
+                    .connected(new ReplayController(player, 0, 15, 4, mapping));
+        }
+
+        inputMap = new InputMap<>(inputs, controllers);
+        for (BenchmarkActions action : ACTIONS) {
+            int i = action.ordinal();
+            inputMap.put(action, new InputTrigger.Pressed(Input.Keys.A + i, InputTrigger.UNDEFINED,
+                    i & 15, (i % 7 == 0) ? i & 3 : InputTrigger.UNDEFINED));
+        }
+        actionTable = new ActionTable<>(BenchmarkActions.class, inputMap, players);
+
+        // Some actions are held
+        for (int i = 0; i < ACTIONS.length; i += 5) {
+            inputs.getInputProcessor().keyDown(Input.Keys.A + i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        inputs.dispose();
+    }
+
+    @Benchmark
+    public void inputMap(Blackhole blackhole) {
+        for (int query = 0; query < queriesPerFrame; query++) {
+            for (int player = 0; player < players; player++) {
+                for (BenchmarkActions action : ACTIONS) {
+                    blackhole.consume(inputMap.get(action, player));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void actionTable(Blackhole blackhole) {
+        actionTable.evaluateFrame();
+        for (int query = 0; query < queriesPerFrame; query++) {
+            for (int player = 0; player < players; player++) {
+                for (BenchmarkActions action : ACTIONS) {
+                    blackhole.consume(actionTable.get(action, player));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.rivelbop.osmigine.benchmarks;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import com.rivelbop.osmigine.audio.AudioSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The AudioSystem's hot paths at a given amount of instances, on the headless backend. The play
+ * benchmarks start every instance from an empty system (then stop them all), the frame benchmarks
+ * run against that many looping instances (half of them positional) and a playing track.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AudioSystemBenchmark {
+    private static final float WORLD_SIZE = 2000f;
+    private static final float HEAR_RANGE = 200f;
+
+    @Param({"100", "1000", "10000"})
+    public int instances;
+
+    @Param({"false", "true"})
+    public boolean pooled;
+
+    private AudioSystem<BenchmarkSounds, BenchmarkTracks> audioSystem;
+    private AudioSystem<BenchmarkSounds, BenchmarkTracks> emptyAudioSystem;
+    private Vector2[] positions;
+    private float angle;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HeadlessRuntime.start();
+
+        RandomXS128 random = new RandomXS128(42L);
+        positions = new Vector2[instances];
+        for (int i = 0; i < instances; i++) {
+            positions[i] = new Vector2(random.nextFloat() * WORLD_SIZE,
+                    random.nextFloat() * WORLD_SIZE);
+        }
+
+        emptyAudioSystem = newAudioSystem();
+
+        audioSystem = newAudioSystem();
+        for (int i = 0; i < instances; i++) {
+            if ((i & 1) == 0) {
+                audioSystem.playSound(BenchmarkSounds.SHOT, true);
+            } else {
+                audioSystem.playSoundAt(positions[i], BenchmarkSounds.EMITTER, true);
+            }
+        }
+        audioSystem.playMusic(BenchmarkTracks.THEME, true);
+        audioSystem.setSoundListenerPosition(WORLD_SIZE / 2f, WORLD_SIZE / 2f);
+        audioSystem.postRender();
+    }
+
+    private AudioSystem<BenchmarkSounds, BenchmarkTracks> newAudioSystem() {
+        AudioSystem<BenchmarkSounds, BenchmarkTracks> system =
+                new AudioSystem<>(BenchmarkSounds.class, BenchmarkTracks.class, HEAR_RANGE);
+        for (BenchmarkSounds sound : BenchmarkSounds.values()) {
+            system.getSoundDurationMap().put(sound, sound.duration());
+        }
+        for (BenchmarkTracks track : BenchmarkTracks.values()) {
+            system.getMusicDurationMap().put(track, track.duration());
+        }
+        system.setSoundInstancePooling(pooled);
+        return system;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        audioSystem.stopAllSounds();
+        audioSystem.stopMusic();
+        emptyAudioSystem.stopAllSounds();
+    }
+
+    /** Plays every instance (non-positional), then stops them all. */
+    @Benchmark
+    public void playSound(Blackhole blackhole) {
+        for (int i = 0; i < instances; i++) {
+            blackhole.consume(emptyAudioSystem.playSound(BenchmarkSounds.SHOT));
+        }
+        emptyAudioSystem.stopAllSounds();
+        emptyAudioSystem.postRender();
+    }
+
+    /** Plays every instance at its position, then stops them all. */
+    @Benchmark
+    public void playSoundAt(Blackhole blackhole) {
+        for (int i = 0; i < instances; i++) {
+            blackhole.consume(emptyAudioSystem.playSoundAt(positions[i], BenchmarkSounds.SHOT));
+        }
+        emptyAudioSystem.stopAllSounds();
+        emptyAudioSystem.postRender();
+    }
+
+    /** A frame without any changes (nothing is due, nothing moved). */
+    @Benchmark
+    public void postRender(Blackhole blackhole) {
+        audioSystem.postRender();
+        blackhole.consume(BenchmarkSounds.EMITTER.headless().getVolumeCalls());
+    }
+
+    /** The listener orbits the center of the world, every emitter stays in place. */
+    @Benchmark
+    public void moveListener(Blackhole blackhole) {
+        angle += 0.01f;
+        audioSystem.setSoundListenerPosition(
+                WORLD_SIZE / 2f + MathUtils.cos(angle) * WORLD_SIZE / 4f,
+                WORLD_SIZE / 2f + MathUtils.sin(angle) * WORLD_SIZE / 4f);
+        audioSystem.postRender();
+        blackhole.consume(BenchmarkSounds.EMITTER.headless().getPanCalls());
+    }
+}
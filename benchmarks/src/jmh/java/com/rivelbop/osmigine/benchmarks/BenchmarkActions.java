@@ -0,0 +1,65 @@
+package com.rivelbop.osmigine.benchmarks;
+
+/** A typical amount of game actions (see ActionTableBenchmark). */
+public enum BenchmarkActions {
+    ACTION_00,
+    ACTION_01,
+    ACTION_02,
+    ACTION_03,
+    ACTION_04,
+    ACTION_05,
+    ACTION_06,
+    ACTION_07,
+    ACTION_08,
+    ACTION_09,
+    ACTION_10,
+    ACTION_11,
+    ACTION_12,
+    ACTION_13,
+    ACTION_14,
+    ACTION_15,
+    ACTION_16,
+    ACTION_17,
+    ACTION_18,
+    ACTION_19,
+    ACTION_20,
+    ACTION_21,
+    ACTION_22,
+    ACTION_23,
+    ACTION_24,
+    ACTION_25,
+    ACTION_26,
+    ACTION_27,
+    ACTION_28,
+    ACTION_29,
+    ACTION_30,
+    ACTION_31,
+    ACTION_32,
+    ACTION_33,
+    ACTION_34,
+    ACTION_35,
+    ACTION_36,
+    ACTION_37,
+    ACTION_38,
+    ACTION_39,
+    ACTION_40,
+    ACTION_41,
+    ACTION_42,
+    ACTION_43,
+    ACTION_44,
+    ACTION_45,
+    ACTION_46,
+    ACTION_47,
+    ACTION_48,
+    ACTION_49,
+    ACTION_50,
+    ACTION_51,
+    ACTION_52,
+    ACTION_53,
+    ACTION_54,
+    ACTION_55,
+    ACTION_56,
+    ACTION_57,
+    ACTION_58,
+    ACTION_59
+}
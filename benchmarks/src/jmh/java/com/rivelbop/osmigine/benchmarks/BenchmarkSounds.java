@@ -0,0 +1,43 @@
+package com.rivelbop.osmigine.benchmarks;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Sound;
+import com.rivelbop.osmigine.audio.HeadlessSound;
+import com.rivelbop.osmigine.audio.SoundAsset;
+
+/** Sounds backed by a {@link HeadlessSound}, nothing is loaded through the AssetManager. */
+public enum BenchmarkSounds implements SoundAsset {
+    EMITTER(1f),
+    SHOT(0.25f);
+
+    private final float duration;
+    private final HeadlessSound sound = new HeadlessSound();
+
+    BenchmarkSounds(float duration) {
+        this.duration = duration;
+    }
+
+    @Override
+    public void loadToAssets(AssetManager assets) {
+        // Intentionally empty
+    }
+
+    @Override
+    public void loadFromAssets(AssetManager assets) {
+        // Intentionally empty
+    }
+
+    @Override
+    public float duration() {
+        return duration;
+    }
+
+    @Override
+    public Sound get() {
+        return sound;
+    }
+
+    public HeadlessSound headless() {
+        return sound;
+    }
+}
@@ -0,0 +1,41 @@
+package com.rivelbop.osmigine.benchmarks;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Music;
+import com.rivelbop.osmigine.audio.HeadlessMusic;
+import com.rivelbop.osmigine.audio.MusicAsset;
+
+/** Tracks backed by a {@link HeadlessMusic}, nothing is loaded through the AssetManager. */
+public enum BenchmarkTracks implements MusicAsset {
+    THEME(180f);
+
+    private final HeadlessMusic music;
+
+    BenchmarkTracks(float duration) {
+        music = new HeadlessMusic(duration);
+    }
+
+    @Override
+    public void loadToAssets(AssetManager assets) {
+        // Intentionally empty
+    }
+
+    @Override
+    public void loadFromAssets(AssetManager assets) {
+        // Intentionally empty
+    }
+
+    @Override
+    public float duration() {
+        return music.getDuration();
+    }
+
+    @Override
+    public Music get() {
+        return music;
+    }
+
+    public HeadlessMusic headless() {
+        return music;
+    }
+}
@@ -0,0 +1,24 @@
+package com.rivelbop.osmigine.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/** Starts a headless libGDX application (once per fork), so Gdx.app and Gdx.files exist. */
+public final class HeadlessRuntime {
+    private HeadlessRuntime() {
+    }
+
+    public static synchronized void start() {
+        if (Gdx.app != null) {
+            return;
+        }
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1; // The benchmarks drive the systems, not the render loop
+        config.preferencesDirectory = System.getProperty("java.io.tmpdir") + "/osmigine-jmh/";
+        new HeadlessApplication(new ApplicationAdapter() {
+        }, config);
+    }
+}
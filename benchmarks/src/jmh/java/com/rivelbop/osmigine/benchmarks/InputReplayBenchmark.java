@@ -0,0 +1,128 @@
+package com.rivelbop.osmigine.benchmarks;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.controllers.ControllerMapping;
+import com.badlogic.gdx.math.MathUtils;
+import com.rivelbop.osmigine.input.ControllerProcessor;
+import com.rivelbop.osmigine.input.ControllerSystem;
+import com.rivelbop.osmigine.input.CursorProvider;
+import com.rivelbop.osmigine.input.InputRecorder;
+import com.rivelbop.osmigine.input.InputReplayer;
+import com.rivelbop.osmigine.input.InputSystem;
+import com.rivelbop.osmigine.input.ReplayController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.badlogic.gdx.controllers.ControllerMapping.UNDEFINED;
+
+/**
+ * Replays a synthetic session (a mouse sweeping the screen, keys, clicks, scrolls and a controller
+ * stick and buttons, at 60 frames and 30 ticks per second) through fresh input systems, as fast
+ * as possible. The session is recorded once per trial through an InputRecorder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InputReplayBenchmark {
+    @Param({"600", "36000"})
+    public int frames;
+
+    private InputSystem replayInputs;
+    private ControllerSystem replayControllers;
+    private InputReplayer replayer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HeadlessRuntime.start();
+
+        // The recorded systems are not global, the session is fed to their processors directly
+        InputSystem inputs = new InputSystem(new CursorProvider.Default(), false);
+        ControllerSystem controllers = new ControllerSystem(false);
+        InputRecorder recorder = new InputRecorder();
+        recorder.start(inputs, controllers);
+        recordSession(inputs, controllers);
+        recorder.stop();
+        inputs.dispose();
+
+        replayInputs = new InputSystem(new CursorProvider.Default(), false);
+        replayControllers = new ControllerSystem(false);
+        replayer = new InputReplayer(recorder.toBytes(), replayInputs, replayControllers);
+    }
+
+    private void recordSession(InputSystem inputs, ControllerSystem controllers) {
+        InputProcessor input = inputs.getInputProcessor();
+        ControllerProcessor controller = controllers.getControllerProcessor();
+        ReplayController pad = new ReplayController(0, 0, 15, 4, new ControllerMapping(0, 1, 2,
+                3, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, UNDEFINED));
+        controller.connected(pad);
+
+        for (int frame = 0; frame < frames; frame++) {
+            inputs.preRender();
+            float angle = frame * 0.05f;
+            int x = 640 + (int) (MathUtils.cos(angle) * 400f);
+            int y = 360 + (int) (MathUtils.sin(angle) * 300f);
+            input.mouseMoved(x, y);
+            controller.axisMoved(pad, 0, MathUtils.cos(angle));
+            controller.axisMoved(pad, 1, MathUtils.sin(angle));
+
+            switch (frame % 30) {
+                case 0:
+                    input.keyDown(Input.Keys.W);
+                    controller.buttonDown(pad, 0);
+                    break;
+                case 10:
+                    input.touchDown(x, y, 0, Input.Buttons.LEFT);
+                    break;
+                case 12:
+                    input.touchUp(x, y, 0, Input.Buttons.LEFT);
+                    input.scrolled(0f, 1f);
+                    break;
+                case 20:
+                    input.keyUp(Input.Keys.W);
+                    controller.buttonUp(pad, 0);
+                    break;
+            }
+
+            if ((frame & 1) == 0) {
+                inputs.postTick();
+                controllers.postTick();
+            }
+            inputs.postRender();
+            controllers.postRender();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        replayInputs.dispose();
+    }
+
+    /** Replays every frame, advancing the input systems like a Scene and SceneManager would. */
+    @Benchmark
+    public void replay(Blackhole blackhole) {
+        replayer.rewind();
+        long ticks = 0L;
+        while (replayer.nextFrame()) {
+            for (; ticks < replayer.getTicks(); ticks++) {
+                replayInputs.postTick();
+                replayControllers.postTick();
+            }
+            replayInputs.postRender();
+            replayControllers.postRender();
+        }
+        blackhole.consume(replayInputs.getState().hashCode());
+        blackhole.consume(replayControllers.getState().hashCode());
+    }
+}
@@ -0,0 +1,95 @@
+package com.rivelbop.osmigine.benchmarks;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.rivelbop.osmigine.audio.AudioSystem;
+import com.rivelbop.osmigine.audio.SoundInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Positional sound updates, the grid (per-instance) path against the batched (structure-of-arrays)
+ * path. Emitters are spread over a square WORLD_SIZE wide, so roughly 3% of them are in range.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PositionalAudioBenchmark {
+    private static final float WORLD_SIZE = 2000f;
+    private static final float HEAR_RANGE = 200f;
+
+    @Param({"1000", "10000"})
+    public int emitters;
+
+    @Param({"false", "true"})
+    public boolean batched;
+
+    private AudioSystem<BenchmarkSounds, BenchmarkTracks> audioSystem;
+    private final Array<SoundInstance<BenchmarkSounds>> instances = new Array<>();
+    private float angle;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HeadlessRuntime.start();
+
+        audioSystem = new AudioSystem<>(BenchmarkSounds.class, BenchmarkTracks.class, HEAR_RANGE);
+        audioSystem.getSoundDurationMap().put(BenchmarkSounds.EMITTER,
+                BenchmarkSounds.EMITTER.duration());
+        audioSystem.setPositionalBatching(batched);
+
+        RandomXS128 random = new RandomXS128(42L);
+        Vector2 position = new Vector2();
+        for (int i = 0; i < emitters; i++) {
+            position.set(random.nextFloat() * WORLD_SIZE, random.nextFloat() * WORLD_SIZE);
+            instances.add(audioSystem.playSoundAt(position, BenchmarkSounds.EMITTER, true));
+        }
+        audioSystem.setSoundListenerPosition(WORLD_SIZE / 2f, WORLD_SIZE / 2f);
+        audioSystem.postRender();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        audioSystem.stopAllSounds();
+        instances.clear();
+    }
+
+    /** The listener orbits the center of the world, every emitter stays in place. */
+    @Benchmark
+    public void moveListener(Blackhole blackhole) {
+        angle += 0.01f;
+        audioSystem.setSoundListenerPosition(
+                WORLD_SIZE / 2f + MathUtils.cos(angle) * WORLD_SIZE / 4f,
+                WORLD_SIZE / 2f + MathUtils.sin(angle) * WORLD_SIZE / 4f);
+        audioSystem.postRender();
+        blackhole.consume(BenchmarkSounds.EMITTER.headless().getPanCalls());
+    }
+
+    /** Every emitter drifts (the listener stays in place). */
+    @Benchmark
+    public void moveEmitters(Blackhole blackhole) {
+        angle += 0.01f;
+        float dx = MathUtils.cos(angle);
+        float dy = MathUtils.sin(angle);
+        for (int i = 0; i < instances.size; i++) {
+            Vector2 position = instances.get(i).getPosition();
+            if (position != null) {
+                instances.get(i).setPosition(position.x + dx, position.y + dy);
+            }
+        }
+        audioSystem.postRender();
+        blackhole.consume(BenchmarkSounds.EMITTER.headless().getPanCalls());
+    }
+}
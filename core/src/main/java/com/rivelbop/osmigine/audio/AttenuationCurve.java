@@ -0,0 +1,25 @@
+package com.rivelbop.osmigine.audio;
+
+/**
+ * Maps the distance to the sound listener (a ratio of the hear range, from 0 to 1) to a gain
+ * (from 1 to 0). Curves are baked into a lookup table by the {@link AudioSystem} (see
+ * {@link AudioSystem#setAttenuationCurve(AttenuationCurve)}), so custom curves can be as expensive
+ * as needed.
+ */
+@FunctionalInterface
+public interface AttenuationCurve {
+    /** The gain falls off linearly with the distance (default). */
+    AttenuationCurve LINEAR = distance -> 1f - distance;
+
+    /** Inverse distance falloff (loud up close, quiet tail), reaching 0 at the hear range. */
+    AttenuationCurve INVERSE = distance -> (10f / (1f + 9f * distance) - 1f) / 9f;
+
+    /** Logarithmic falloff (linear in decibels), reaching 0 at the hear range. */
+    AttenuationCurve LOGARITHMIC = distance -> 1f - (float) Math.log10(1f + 9f * distance);
+
+    /**
+     * @param distance The distance to the listener divided by the hear range, from 0 to 1.
+     * @return The gain at that distance, from 1 to 0.
+     */
+    float gain(float distance);
+}
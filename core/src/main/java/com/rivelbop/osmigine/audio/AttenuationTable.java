@@ -0,0 +1,66 @@
+package com.rivelbop.osmigine.audio;
+
+import com.badlogic.gdx.math.MathUtils;
+
+import static com.rivelbop.osmigine.audio.AudioSystem.FULL_PAN_RANGE;
+import static com.rivelbop.osmigine.audio.AudioSystem.FULL_VOLUME_RANGE;
+
+/**
+ * An {@link AttenuationCurve} baked into a lookup table indexed by the squared distance to the
+ * listener, so gain and pan need no sqrt or division per instance. The curve is sampled when it
+ * is set, and the range dependent scales are only recomputed when the hear range changes.
+ */
+final class AttenuationTable {
+    /** The amount of samples, gains between two samples are interpolated. */
+    static final int SIZE = 2048;
+
+    // Indexed by the squared distance ratio (squared distance / squared hear range) * SIZE, padded
+    // by one sample so interpolation at the end of the table needs no bounds check
+    private final float[] gains = new float[SIZE + 2];
+    private AttenuationCurve curve = AttenuationCurve.LINEAR;
+
+    float hearRange2;
+    private float indexScale; // SIZE / hearRange2
+    private float inverseHalfRange;
+
+    AttenuationTable() {
+        bake();
+    }
+
+    void setCurve(AttenuationCurve newCurve) {
+        curve = newCurve;
+        bake();
+    }
+
+    AttenuationCurve getCurve() {
+        return curve;
+    }
+
+    void setHearRange(float hearRange) {
+        hearRange2 = hearRange * hearRange;
+        indexScale = SIZE / Math.max(hearRange2, Float.MIN_NORMAL);
+        inverseHalfRange = 2f / Math.max(hearRange, Float.MIN_NORMAL);
+    }
+
+    private void bake() {
+        for (int i = 0; i <= SIZE; i++) {
+            float distance = (float) Math.sqrt((double) i / SIZE);
+            gains[i] = MathUtils.clamp(curve.gain(distance), FULL_VOLUME_RANGE[0],
+                    FULL_VOLUME_RANGE[1]);
+        }
+        gains[SIZE + 1] = gains[SIZE];
+    }
+
+    /** @return The gain at the squared distance (clamped to the hear range). */
+    float gain(float distance2) {
+        float index = Math.min(distance2 * indexScale, SIZE);
+        int i = (int) index;
+        float gain = gains[i];
+        return gain + (gains[i + 1] - gain) * (index - i);
+    }
+
+    /** @return The pan of a sound at the horizontal offset from the listener. */
+    float pan(float dx) {
+        return Math.max(FULL_PAN_RANGE[0], Math.min(FULL_PAN_RANGE[1], dx * inverseHalfRange));
+    }
+}
@@ -0,0 +1,50 @@
+package com.rivelbop.osmigine.audio;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * A group of banked sounds (see {@link SoundAsset#isBanked()}) that are loaded and unloaded
+ * together, usually declared per Scene. Banks are loaded asynchronously when requested
+ * ({@link AudioSystem#requestBank(AudioBank)}) and evicted least recently used first once the
+ * AudioSystem's bank memory budget is exceeded. The AssetManager's owner drives the loading by
+ * calling its update() (the SceneManager does every frame).
+ * <p>
+ * Until a bank is loaded, playing its sounds returns the AudioSystem's nullSoundInstance.
+ *
+ * @param <S> The SoundAsset enum.
+ */
+public final class AudioBank<S extends Enum<S> & SoundAsset> {
+    public final String name;
+    final Array<S> sounds;
+
+    State state = State.UNLOADED;
+    boolean isInUse; // Used by the current scene, never evicted
+    long lastUsedFrame;
+
+    @SafeVarargs
+    public AudioBank(String name, S... sounds) {
+        this.name = name;
+        this.sounds = new Array<>(sounds);
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public boolean isLoaded() {
+        return state == State.LOADED;
+    }
+
+    public boolean isInUse() {
+        return isInUse;
+    }
+
+    /** DO NOT ALTER, GETTER ONLY */
+    public Array<S> getSounds() {
+        return sounds;
+    }
+
+    public enum State {
+        UNLOADED, LOADING, LOADED
+    }
+}
@@ -0,0 +1,168 @@
+package com.rivelbop.osmigine.audio;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import org.jspecify.annotations.Nullable;
+
+import static com.rivelbop.osmigine.audio.AudioSystem.FULL_VOLUME_RANGE;
+
+/**
+ * A mixer bus, every sound and track is routed through one (see {@link SoundAsset#bus()} and
+ * {@link MusicAsset#bus()}). A bus's effective volume is its own volume multiplied by every parent
+ * bus's volume, up to the master bus.
+ * <p>
+ * Effective volumes are cached and recomputed for the changed subtree as soon as a volume is set,
+ * but the routed instances are only updated by the {@link AudioSystem} during postRender (once per
+ * frame, no matter how many times the volume was set).
+ */
+public final class AudioBus {
+    public final String name;
+
+    @Nullable
+    private final AudioBus parent;
+    private final Array<AudioBus> children = new Array<>(false, 4);
+
+    // Routed instances (unordered, each instance stores its index)
+    final Array<SoundInstance<?>> soundInstances = new Array<>(false, 16);
+    final Array<MusicInstance<?>> musicInstances = new Array<>(false, 2);
+
+    private float volume = FULL_VOLUME_RANGE[1];
+    private float effectiveVolume = FULL_VOLUME_RANGE[1];
+
+    private boolean isDirty; // The effective volume changed since it was last applied
+    private boolean hasDirtyBus; // Only used by the root, set if any bus in the graph is dirty
+
+    /** Created through {@link AudioSystem#createBus(String, String)}. */
+    AudioBus(String name, @Nullable AudioBus parent) {
+        this.name = name;
+        this.parent = parent;
+        if (parent != null) {
+            parent.children.add(this);
+            effectiveVolume = parent.effectiveVolume * volume;
+        }
+    }
+
+    public void setVolume(float newVolume) {
+        newVolume = MathUtils.clamp(newVolume, FULL_VOLUME_RANGE[0], FULL_VOLUME_RANGE[1]);
+        if (volume != newVolume) {
+            volume = newVolume;
+            updateEffectiveVolume();
+        }
+    }
+
+    /** Recomputes the cached effective volume of this bus and its children. */
+    private void updateEffectiveVolume() {
+        float newEffectiveVolume = parent != null ? parent.effectiveVolume * volume : volume;
+        if (effectiveVolume == newEffectiveVolume) {
+            return;
+        }
+
+        effectiveVolume = newEffectiveVolume;
+        isDirty = true;
+        root().hasDirtyBus = true;
+
+        for (AudioBus child : children) {
+            child.updateEffectiveVolume();
+        }
+    }
+
+    /** Pushes the effective volume to the routed instances of every dirty bus in this graph. */
+    void applyVolumes() {
+        if (parent != null || !hasDirtyBus) {
+            return;
+        }
+        hasDirtyBus = false;
+        applyDirtyVolumes();
+    }
+
+    private void applyDirtyVolumes() {
+        if (isDirty) {
+            isDirty = false;
+            for (SoundInstance<?> instance : soundInstances) {
+                instance.setMasterVolume(effectiveVolume);
+            }
+            for (MusicInstance<?> instance : musicInstances) {
+                instance.setMasterVolume(effectiveVolume);
+            }
+        }
+
+        for (AudioBus child : children) {
+            child.applyDirtyVolumes();
+        }
+    }
+
+    void addSoundInstance(SoundInstance<?> instance) {
+        instance.bus = this;
+        instance.busArrayIndex = soundInstances.size;
+        soundInstances.add(instance);
+    }
+
+    void removeSoundInstance(SoundInstance<?> instance) {
+        if (instance.bus != this || instance.busArrayIndex == -1) {
+            return;
+        }
+
+        soundInstances.peek().busArrayIndex = instance.busArrayIndex;
+        soundInstances.removeIndex(instance.busArrayIndex);
+        instance.busArrayIndex = -1;
+        instance.bus = null;
+    }
+
+    void addMusicInstance(MusicInstance<?> instance) {
+        instance.bus = this;
+        instance.busArrayIndex = musicInstances.size;
+        musicInstances.add(instance);
+    }
+
+    void removeMusicInstance(MusicInstance<?> instance) {
+        if (instance.bus != this || instance.busArrayIndex == -1) {
+            return;
+        }
+
+        musicInstances.peek().busArrayIndex = instance.busArrayIndex;
+        musicInstances.removeIndex(instance.busArrayIndex);
+        instance.busArrayIndex = -1;
+        instance.bus = null;
+    }
+
+    /** Unroutes every sound instance of this bus (not its children). */
+    void clearSoundInstances() {
+        for (SoundInstance<?> instance : soundInstances) {
+            instance.busArrayIndex = -1;
+            instance.bus = null;
+        }
+        soundInstances.clear();
+    }
+
+    private AudioBus root() {
+        AudioBus root = this;
+        while (root.parent != null) {
+            root = root.parent;
+        }
+        return root;
+    }
+
+    public float getVolume() {
+        return volume;
+    }
+
+    /** @return The volume multiplied by every parent bus's volume. */
+    public float getEffectiveVolume() {
+        return effectiveVolume;
+    }
+
+    @Nullable
+    public AudioBus getParent() {
+        return parent;
+    }
+
+    /** DO NOT ALTER, GETTER ONLY */
+    public Array<AudioBus> getChildren() {
+        return children;
+    }
+
+    /** @return The amount of sound and music instances currently routed through this bus. */
+    public int getInstanceCount() {
+        return soundInstances.size + musicInstances.size;
+    }
+}
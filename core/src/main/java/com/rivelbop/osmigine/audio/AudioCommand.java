@@ -0,0 +1,30 @@
+package com.rivelbop.osmigine.audio;
+
+/**
+ * A play/stop/set-param request queued from any thread, applied by the {@link AudioSystem} during
+ * postRender (see {@link AudioSystem#queuePlaySound}).
+ */
+final class AudioCommand<S extends Enum<S> & SoundAsset> {
+    final Type type;
+    final QueuedSound<S> target;
+
+    // Play parameters (or the new value of a set-param command)
+    float volume;
+    float pitch;
+    float pan;
+    boolean loop;
+
+    // Positional plays
+    boolean isPositional;
+    float x;
+    float y;
+
+    AudioCommand(Type type, QueuedSound<S> target) {
+        this.type = type;
+        this.target = target;
+    }
+
+    enum Type {
+        PLAY, STOP, SET_VOLUME, SET_PITCH, SET_PAN
+    }
+}
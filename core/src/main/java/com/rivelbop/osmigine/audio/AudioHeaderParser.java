@@ -0,0 +1,335 @@
+package com.rivelbop.osmigine.audio;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.StreamUtils;
+import org.jspecify.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.Locale;
+
+/**
+ * Reads the duration, sample rate and channel count of OGG (Vorbis/Opus), WAV and MP3 files
+ * straight from their container headers, without copying the file anywhere.
+ * <p>
+ * Only the first and last {@link #WINDOW_SIZE} bytes are ever read. Files that exist on the file
+ * system are memory-mapped, everything else (e.g. Android assets) is read from the
+ * {@link FileHandle} stream.
+ */
+public final class AudioHeaderParser {
+    /** The amount of bytes read from the start and end of a file. */
+    public static final int WINDOW_SIZE = 64 * 1024;
+
+    private static final int OGG_PAGE_HEADER_SIZE = 27;
+    private static final int OPUS_SAMPLE_RATE = 48000;
+
+    private static final int[][] MP3_BITRATES = { // kbps [version/layer][index]
+            {0, 32, 64, 96, 128, 160, 192, 224, 256, 288, 320, 352, 384, 416, 448}, // V1 L1
+            {0, 32, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320, 384},    // V1 L2
+            {0, 32, 40, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320},     // V1 L3
+            {0, 32, 48, 56, 64, 80, 96, 112, 128, 144, 160, 176, 192, 224, 256},    // V2 L1
+            {0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160}          // V2 L2/L3
+    };
+    private static final int[][] MP3_SAMPLE_RATES = {
+            {11025, 12000, 8000},  // MPEG 2.5
+            {0, 0, 0},             // Reserved
+            {22050, 24000, 16000}, // MPEG 2
+            {44100, 48000, 32000}  // MPEG 1
+    };
+
+    private AudioHeaderParser() {
+    }
+
+    /** The header values of a parsed audio file. */
+    public static final class Info {
+        public final float duration;
+        public final int sampleRate;
+        public final int channels;
+
+        public Info(float duration, int sampleRate, int channels) {
+            this.duration = duration;
+            this.sampleRate = sampleRate;
+            this.channels = channels;
+        }
+    }
+
+    /**
+     * @param audioFile The file handle to reference audio file data.
+     * @return The track length of the audio file (in seconds), -1 if the format isn't supported.
+     */
+    public static float parseDuration(FileHandle audioFile) {
+        Info info = parse(audioFile);
+        return info != null ? info.duration : -1f;
+    }
+
+    /**
+     * @param audioFile The file handle to reference audio file data.
+     * @return The header info, null if the format isn't supported or the headers are malformed.
+     */
+    @Nullable
+    public static Info parse(FileHandle audioFile) {
+        String extension = audioFile.extension().toLowerCase(Locale.ROOT);
+        if (!extension.equals("ogg") && !extension.equals("oga") && !extension.equals("opus") &&
+                !extension.equals("wav") && !extension.equals("mp3")) {
+            return null;
+        }
+
+        try {
+            ByteBuffer[] window = readWindow(audioFile);
+            if (window == null) {
+                return null;
+            }
+
+            ByteBuffer head = window[0];
+            ByteBuffer tail = window[1];
+            long length = audioFile.length();
+            switch (extension) {
+                case "wav":
+                    return parseWav(head, length);
+                case "mp3":
+                    return parseMp3(head, tail, length);
+                default:
+                    return parseOgg(head, tail);
+            }
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /** @return {head, tail} little-endian buffers, null if the length is unknown. */
+    private static ByteBuffer[] readWindow(FileHandle audioFile) throws IOException {
+        long length = audioFile.length();
+        if (length <= 0) {
+            return null;
+        }
+        int headSize = (int) Math.min(length, WINDOW_SIZE);
+        int tailSize = (int) Math.min(length, WINDOW_SIZE);
+
+        File file = audioFile.type() != Files.FileType.Classpath ? audioFile.file() : null;
+        if (file != null && file.isFile()) {
+            try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+                 FileChannel channel = raf.getChannel()) {
+                ByteBuffer head = channel.map(FileChannel.MapMode.READ_ONLY, 0, headSize);
+                ByteBuffer tail = channel.map(FileChannel.MapMode.READ_ONLY, length - tailSize,
+                        tailSize);
+                return new ByteBuffer[]{head.order(ByteOrder.LITTLE_ENDIAN),
+                        tail.order(ByteOrder.LITTLE_ENDIAN)};
+            }
+        }
+
+        InputStream input = audioFile.read();
+        try {
+            byte[] headBytes = new byte[headSize];
+            readFully(input, headBytes, headSize);
+
+            byte[] tailBytes;
+            long tailStart = length - tailSize;
+            if (tailStart < headSize) { // Small file, both windows overlap
+                tailBytes = new byte[tailSize];
+                int overlap = (int) (headSize - tailStart);
+                System.arraycopy(headBytes, (int) tailStart, tailBytes, 0, overlap);
+                byte[] rest = new byte[tailSize - overlap];
+                readFully(input, rest, rest.length);
+                System.arraycopy(rest, 0, tailBytes, overlap, rest.length);
+            } else {
+                skipFully(input, tailStart - headSize);
+                tailBytes = new byte[tailSize];
+                readFully(input, tailBytes, tailSize);
+            }
+
+            return new ByteBuffer[]{ByteBuffer.wrap(headBytes).order(ByteOrder.LITTLE_ENDIAN),
+                    ByteBuffer.wrap(tailBytes).order(ByteOrder.LITTLE_ENDIAN)};
+        } finally {
+            StreamUtils.closeQuietly(input);
+        }
+    }
+
+    private static void readFully(InputStream input, byte[] bytes, int length) throws IOException {
+        int offset = 0;
+        while (offset < length) {
+            int read = input.read(bytes, offset, length - offset);
+            if (read < 0) {
+                throw new IOException("Unexpected end of stream");
+            }
+            offset += read;
+        }
+    }
+
+    private static void skipFully(InputStream input, long amount) throws IOException {
+        while (amount > 0) {
+            long skipped = input.skip(amount);
+            if (skipped <= 0) {
+                if (input.read() < 0) {
+                    throw new IOException("Unexpected end of stream");
+                }
+                skipped = 1;
+            }
+            amount -= skipped;
+        }
+    }
+
+    @Nullable
+    private static Info parseWav(ByteBuffer head, long length) {
+        if (!matches(head, 0, "RIFF") || !matches(head, 8, "WAVE")) {
+            return null;
+        }
+
+        int channels = 0;
+        int sampleRate = 0;
+        long byteRate = 0;
+        int offset = 12;
+        while (offset + 8 <= head.limit()) {
+            long chunkSize = head.getInt(offset + 4) & 0xFFFFFFFFL;
+            if (matches(head, offset, "fmt ")) {
+                channels = head.getShort(offset + 10) & 0xFFFF;
+                sampleRate = head.getInt(offset + 12);
+                byteRate = head.getInt(offset + 16) & 0xFFFFFFFFL;
+            } else if (matches(head, offset, "data")) {
+                if (byteRate <= 0) {
+                    return null;
+                }
+                // Streamed WAVs can leave the data size unset (or larger than the actual file)
+                long dataSize = Math.min(chunkSize, length - offset - 8);
+                return new Info((float) ((double) dataSize / byteRate), sampleRate, channels);
+            }
+            long next = offset + 8 + chunkSize + (chunkSize & 1); // Chunks are even-padded
+            if (next > head.limit()) {
+                break;
+            }
+            offset = (int) next;
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Info parseOgg(ByteBuffer head, ByteBuffer tail) {
+        if (!matches(head, 0, "OggS") || head.limit() < OGG_PAGE_HEADER_SIZE) {
+            return null;
+        }
+
+        int serial = head.getInt(14);
+        int segments = head.get(26) & 0xFF;
+        int packet = OGG_PAGE_HEADER_SIZE + segments;
+        if (packet + 19 > head.limit()) {
+            return null;
+        }
+
+        int channels;
+        int sampleRate;
+        long preSkip = 0;
+        boolean isOpus;
+        if ((head.get(packet) & 0xFF) == 1 && matches(head, packet + 1, "vorbis")) {
+            channels = head.get(packet + 11) & 0xFF;
+            sampleRate = head.getInt(packet + 12);
+            isOpus = false;
+        } else if (matches(head, packet, "OpusHead")) {
+            channels = head.get(packet + 9) & 0xFF;
+            preSkip = head.getShort(packet + 10) & 0xFFFF;
+            sampleRate = head.getInt(packet + 12); // Original input rate, granules are 48kHz
+            isOpus = true;
+        } else {
+            return null;
+        }
+
+        // Find the last page of this stream, its granule position is the total sample count
+        for (int i = tail.limit() - OGG_PAGE_HEADER_SIZE; i >= 0; i--) {
+            if (matches(tail, i, "OggS") && tail.getInt(i + 14) == serial) {
+                long granule = tail.getLong(i + 6);
+                if (granule <= 0) { // -1 means no packet ends on this page, keep looking
+                    continue;
+                }
+
+                float duration = isOpus ? (float) ((double) (granule - preSkip) / OPUS_SAMPLE_RATE)
+                        : (float) ((double) granule / sampleRate);
+                return sampleRate > 0 ? new Info(duration, sampleRate, channels) : null;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Info parseMp3(ByteBuffer head, ByteBuffer tail, long length) {
+        // Skip the ID3v2 tag
+        int offset = 0;
+        if (matches(head, 0, "ID3") && head.limit() >= 10) {
+            int size = ((head.get(6) & 0x7F) << 21) | ((head.get(7) & 0x7F) << 14) |
+                    ((head.get(8) & 0x7F) << 7) | (head.get(9) & 0x7F);
+            boolean hasFooter = (head.get(5) & 0x10) != 0;
+            offset = 10 + size + (hasFooter ? 10 : 0);
+        }
+
+        // Find the first frame sync
+        while (offset + 4 <= head.limit() && !((head.get(offset) & 0xFF) == 0xFF &&
+                (head.get(offset + 1) & 0xE0) == 0xE0)) {
+            offset++;
+        }
+        if (offset + 4 > head.limit()) {
+            return null;
+        }
+
+        int b1 = head.get(offset + 1) & 0xFF;
+        int b2 = head.get(offset + 2) & 0xFF;
+        int b3 = head.get(offset + 3) & 0xFF;
+
+        int version = (b1 >> 3) & 0x3; // 0 = 2.5, 2 = 2, 3 = 1
+        int layer = 4 - ((b1 >> 1) & 0x3); // 1, 2 or 3
+        int bitrateIndex = (b2 >> 4) & 0xF;
+        int sampleRateIndex = (b2 >> 2) & 0x3;
+        if (version == 1 || layer == 4 || bitrateIndex == 0 || bitrateIndex == 15 ||
+                sampleRateIndex == 3) {
+            return null;
+        }
+
+        boolean isV1 = version == 3;
+        boolean isMono = ((b3 >> 6) & 0x3) == 3;
+        int channels = isMono ? 1 : 2;
+        int sampleRate = MP3_SAMPLE_RATES[version][sampleRateIndex];
+        int bitrate = MP3_BITRATES[isV1 ? layer - 1 : (layer == 1 ? 3 : 4)][bitrateIndex] * 1000;
+        int samplesPerFrame = layer == 1 ? 384 : (layer == 3 && !isV1 ? 576 : 1152);
+
+        // VBR headers (Xing/Info directly after the side info, VBRI at a fixed offset)
+        int xing = offset + 4 + (isV1 ? (isMono ? 17 : 32) : (isMono ? 9 : 17));
+        if (matches(head, xing, "Xing") || matches(head, xing, "Info")) {
+            int flags = head.order(ByteOrder.BIG_ENDIAN).getInt(xing + 4);
+            if ((flags & 1) != 0) {
+                long frames = head.getInt(xing + 8) & 0xFFFFFFFFL;
+                head.order(ByteOrder.LITTLE_ENDIAN);
+                return new Info((float) ((double) frames * samplesPerFrame / sampleRate),
+                        sampleRate, channels);
+            }
+            head.order(ByteOrder.LITTLE_ENDIAN);
+        }
+        int vbri = offset + 4 + 32;
+        if (matches(head, vbri, "VBRI")) {
+            long frames = head.order(ByteOrder.BIG_ENDIAN).getInt(vbri + 14) & 0xFFFFFFFFL;
+            head.order(ByteOrder.LITTLE_ENDIAN);
+            return new Info((float) ((double) frames * samplesPerFrame / sampleRate), sampleRate,
+                    channels);
+        }
+
+        // CBR, estimate from the audio byte count (excluding an ID3v1 tag)
+        long audioBytes = length - offset;
+        if (tail.limit() >= 128 && matches(tail, tail.limit() - 128, "TAG")) {
+            audioBytes -= 128;
+        }
+        return new Info((float) (audioBytes * 8d / bitrate), sampleRate, channels);
+    }
+
+    private static boolean matches(ByteBuffer buffer, int offset, String id) {
+        if (offset < 0 || offset + id.length() > buffer.limit()) {
+            return false;
+        }
+        for (int i = 0; i < id.length(); i++) {
+            if (buffer.get(offset + i) != (byte) id.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,133 @@
+package com.rivelbop.osmigine.audio;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The build-time audio manifest (see the generateAudioManifest Gradle task), a CSV of per-file
+ * durations, sample rates and channel counts for every audio file in assets/audio/.
+ * <p>
+ * Entries are matched by asset path, and ignored if the file size no longer matches (e.g. an audio
+ * file was replaced without rebuilding). The task runs {@link #main(String[])}, so the manifest is
+ * written by the same {@link AudioHeaderParser} that probes files at runtime.
+ */
+public final class AudioManifest {
+    private final ObjectMap<String, Entry> entries = new ObjectMap<>();
+
+    /** Parses the given manifest file, an empty manifest is created if it doesn't exist. */
+    public AudioManifest(FileHandle manifestFile) {
+        if (!manifestFile.exists()) {
+            return;
+        }
+
+        try {
+            String[] lines = manifestFile.readString("UTF-8").split("\n");
+            for (int i = 1; i < lines.length; i++) { // Skip the header row
+                String[] values = lines[i].trim().split(",");
+                if (values.length != 5) {
+                    continue;
+                }
+
+                entries.put(values[0], new Entry(Float.parseFloat(values[1]),
+                        Integer.parseInt(values[2]), Integer.parseInt(values[3]),
+                        Long.parseLong(values[4])));
+            }
+        } catch (Exception e) {
+            Gdx.app.error("AudioManifest", "Error reading manifest: " + e.getMessage());
+            entries.clear();
+        }
+    }
+
+    /**
+     * @param audioFile The file handle to reference audio file data.
+     * @return The track length of the audio file (in seconds), -1 if it isn't in the manifest.
+     */
+    public float getDuration(FileHandle audioFile) {
+        Entry entry = get(audioFile);
+        return entry != null ? entry.duration : -1f;
+    }
+
+    /** @return The manifest entry, null if missing or the file size has changed. */
+    @Nullable
+    public Entry get(FileHandle audioFile) {
+        Entry entry = entries.get(audioFile.path());
+        if (entry == null) {
+            return null;
+        }
+
+        // Compressed Android assets report a length of 0, trust the manifest for those
+        long length = audioFile.length();
+        return (length == 0 || length == entry.length) ? entry : null;
+    }
+
+    public int size() {
+        return entries.size;
+    }
+
+    /**
+     * Writes the manifest, RUN BY THE generateAudioManifest GRADLE TASK (no libGDX application
+     * is needed).
+     *
+     * @param args The assets folder, the audio folder and the manifest file (absolute paths).
+     */
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("Usage: AudioManifest <assets> <audio> <manifest>");
+        }
+        write(new FileHandle(args[0]), new FileHandle(args[1]), new FileHandle(args[2]));
+    }
+
+    /**
+     * Writes the entry of every file in the audio folder (and its subfolders) that the
+     * {@link AudioHeaderParser} can read, any other file is probed at runtime instead.
+     *
+     * @param assetsFolder The folder the entries' paths are relative to.
+     */
+    public static void write(FileHandle assetsFolder, FileHandle audioFolder,
+                             FileHandle manifestFile) {
+        Array<FileHandle> files = new Array<>();
+        collectFiles(audioFolder, files);
+        files.sort((a, b) -> a.path().compareTo(b.path()));
+
+        StringBuilder manifest = new StringBuilder("path,duration,sampleRate,channels,length\n");
+        for (FileHandle file : files) {
+            AudioHeaderParser.Info info = AudioHeaderParser.parse(file);
+            if (info == null) {
+                continue;
+            }
+
+            String path = assetsFolder.file().toURI().relativize(file.file().toURI()).getPath();
+            manifest.append(path).append(',').append(info.duration).append(',')
+                    .append(info.sampleRate).append(',').append(info.channels).append(',')
+                    .append(file.length()).append('\n');
+        }
+        manifestFile.writeString(manifest.toString(), false, "UTF-8");
+    }
+
+    private static void collectFiles(FileHandle folder, Array<FileHandle> files) {
+        for (FileHandle file : folder.list()) {
+            if (file.isDirectory()) {
+                collectFiles(file, files);
+            } else {
+                files.add(file);
+            }
+        }
+    }
+
+    public static final class Entry {
+        public final float duration;
+        public final int sampleRate;
+        public final int channels;
+        public final long length;
+
+        public Entry(float duration, int sampleRate, int channels, long length) {
+            this.duration = duration;
+            this.sampleRate = sampleRate;
+            this.channels = channels;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.rivelbop.osmigine.audio;
+
+/**
+ * Instrumentation of the {@link AudioSystem}'s hot path, only collected while enabled (see
+ * {@link AudioSystem#setMetricsEnabled(boolean)}). Per-frame values are from the last
+ * postRender.
+ */
+public final class AudioMetrics {
+    private static final long PLAY_RATE_WINDOW_NANOS = 1000000000L;
+
+    // Voice counts (at the end of the last frame)
+    private int activeVoices;
+    private int positionalVoices;
+    private int virtualVoices;
+
+    // Plays, counted per window to compute the rate
+    long plays;
+    private long windowPlays;
+    private long windowStartTime = -1L;
+    private float playsPerSecond;
+
+    // Instances
+    long allocatedInstances;
+    long recycledInstances;
+
+    // postRender timings (in nanoseconds)
+    long musicQueueNanos;
+    long instanceLoopNanos;
+
+    // Backend calls, counted during the frame
+    long frameVolumeCalls;
+    long framePanCalls;
+    private long volumeCallsPerFrame;
+    private long panCallsPerFrame;
+
+    /** Called by the AudioSystem at the end of postRender. */
+    void endFrame(int activeVoices, int positionalVoices, int virtualVoices, long time) {
+        this.activeVoices = activeVoices;
+        this.positionalVoices = positionalVoices;
+        this.virtualVoices = virtualVoices;
+
+        volumeCallsPerFrame = frameVolumeCalls;
+        panCallsPerFrame = framePanCalls;
+        frameVolumeCalls = 0L;
+        framePanCalls = 0L;
+
+        if (windowStartTime == -1L) {
+            windowStartTime = time;
+            windowPlays = plays;
+        } else if (time - windowStartTime >= PLAY_RATE_WINDOW_NANOS) {
+            playsPerSecond = (plays - windowPlays) * 1000000000f / (time - windowStartTime);
+            windowStartTime = time;
+            windowPlays = plays;
+        }
+    }
+
+    public void reset() {
+        activeVoices = 0;
+        positionalVoices = 0;
+        virtualVoices = 0;
+
+        plays = 0L;
+        windowPlays = 0L;
+        windowStartTime = -1L;
+        playsPerSecond = 0f;
+
+        allocatedInstances = 0L;
+        recycledInstances = 0L;
+
+        musicQueueNanos = 0L;
+        instanceLoopNanos = 0L;
+
+        frameVolumeCalls = 0L;
+        framePanCalls = 0L;
+        volumeCallsPerFrame = 0L;
+        panCallsPerFrame = 0L;
+    }
+
+    /** @return The amount of sound instances with a backend voice. */
+    public int getActiveVoices() {
+        return activeVoices;
+    }
+
+    /** @return The amount of positional sound instances (with or without a backend voice). */
+    public int getPositionalVoices() {
+        return positionalVoices;
+    }
+
+    /** @return The amount of sound instances without a backend voice (out of range). */
+    public int getVirtualVoices() {
+        return virtualVoices;
+    }
+
+    /** @return The amount of sounds played (since the last reset). */
+    public long getPlays() {
+        return plays;
+    }
+
+    /** @return The play rate, updated about once per second. */
+    public float getPlaysPerSecond() {
+        return playsPerSecond;
+    }
+
+    /** @return The amount of sound instances created (since the last reset). */
+    public long getAllocatedInstances() {
+        return allocatedInstances;
+    }
+
+    /** @return The amount of sound instances reused from the pool (since the last reset). */
+    public long getRecycledInstances() {
+        return recycledInstances;
+    }
+
+    /** @return The time the last postRender spent updating the music queue. */
+    public long getMusicQueueNanos() {
+        return musicQueueNanos;
+    }
+
+    /** @return The time the last postRender spent updating sound instances (and positions). */
+    public long getInstanceLoopNanos() {
+        return instanceLoopNanos;
+    }
+
+    /** @return The amount of Sound.setVolume calls made during the last frame. */
+    public long getVolumeCallsPerFrame() {
+        return volumeCallsPerFrame;
+    }
+
+    /** @return The amount of Sound.setPan calls made during the last frame. */
+    public long getPanCallsPerFrame() {
+        return panCallsPerFrame;
+    }
+}
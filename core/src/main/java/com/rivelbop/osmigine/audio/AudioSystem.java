@@ -1,6 +1,7 @@
 package com.rivelbop.osmigine.audio;
 
 import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Files;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.assets.AssetManager;
@@ -8,6 +9,10 @@ import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Queue;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.rivelbop.osmigine.assets.Asset;
 
 import org.jaudiotagger.audio.AudioFile;
@@ -16,9 +21,15 @@ import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jspecify.annotations.Nullable;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.EnumMap;
-import java.util.LinkedList;
 import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 /**
  * @param <S> The SoundAsset enum.
@@ -27,6 +38,8 @@ import java.util.Map;
 public final class AudioSystem<S extends Enum<S> & SoundAsset,
         M extends Enum<M> & MusicAsset> implements Asset {
     public static final long INVALID_SOUND_ID = -1;
+    public static final int MAX_SOUND_LISTENERS = 4;
+    public static final long INVALID_SOUND_HANDLE = -1;
     public static final float[] FULL_VOLUME_RANGE = {0f, 1f};
     public static final float[] FULL_PITCH_RANGE = {0.5f, 2f};
     public static final float[] FULL_PAN_RANGE = {-1f, 1f};
@@ -34,11 +47,33 @@ public final class AudioSystem<S extends Enum<S> & SoundAsset,
     public static final float[] DEFAULT_PITCH_RANGE = {0.8f, 1.2f};
     public static final float DEFAULT_PITCH = 1f;
     public static final float DEFAULT_PAN = 0f;
+    public static final float DEFAULT_COALESCE_WINDOW = 0.05f;
+    public static final float DEFAULT_MUSIC_PREFETCH_TIME = 2f;
+    public static final float DEFAULT_MUSIC_CROSSFADE = 0f;
+
+    /** Bank sizes are estimated as 16-bit stereo PCM at 44.1kHz (the decoded size). */
+    public static final long BANK_BYTES_PER_SECOND = 176400L;
+    public static final long DEFAULT_BANK_MEMORY_BUDGET = 64L * 1024L * 1024L;
 
     public static final String MASTER_VOLUME_PREF = "masterVolume";
     public static final String SOUND_VOLUME_PREF = "soundVolume";
     public static final String MUSIC_VOLUME_PREF = "musicVolume";
 
+    public static final String MASTER_BUS = "master";
+    public static final String MUSIC_BUS = "music";
+    public static final String SFX_BUS = "sfx";
+    public static final String UI_BUS = "ui";
+    public static final String VOICE_BUS = "voice";
+
+    public static final String AUDIO_MANIFEST_PATH = "audio-manifest.csv";
+    public static final String DURATION_INDEX_PATH = ".osmigine/audio-durations.idx";
+    private static AudioManifest audioManifest;
+    private static DurationIndex durationIndex;
+
+    // jAudioTagger's options are global, its reads are serialized (the probes run on a pool)
+    private static final Object TAGGER_LOCK = new Object();
+    private static boolean isTaggerConfigured;
+
     public final SoundInstance<S> nullSoundInstance = new SoundInstance<>(null,
             FULL_VOLUME_RANGE[0], FULL_VOLUME_RANGE[0], DEFAULT_PITCH, DEFAULT_PAN, false,
             INVALID_SOUND_ID, 0f);
@@ -51,22 +86,108 @@ public final class AudioSystem<S extends Enum<S> & SoundAsset,
     private final Map<S, Float> soundDurationMap;
     private final Map<M, Float> musicDurationMap;
 
+    // Durations are probed on a worker pool while the AssetManager loads
+    private ExecutorService durationExecutor;
+    private final Array<Future<Float>> soundDurationTasks = new Array<>();
+    private final Array<Future<Float>> musicDurationTasks = new Array<>();
+
     // Unordered with the default Array capacity (for faster removal performance)
     private final Array<SoundInstance<S>> activeSoundInstances = new Array<>(false, 16);
     private final Array<SoundInstance<S>> activePositionalSoundInstances = new Array<>(false, 16);
 
-    private final Vector2 soundListenerPosition = new Vector2();
+    // Instances are only visited when they finish, loop or are stopped
+    private final CompletionScheduler<S> completionScheduler = new CompletionScheduler<>();
+
+    // Spatial index, listener moves only visit the grid cells overlapping the hear range and the
+    // previously audible (in range) instances
+    private final SoundGrid<S> soundGrid = new SoundGrid<>();
+    private final Array<SoundInstance<S>> audiblePositionalSoundInstances = new Array<>(false, 16);
+    private final Consumer<SoundInstance<S>> nearbyInstanceUpdater = this::updateNearbyInstance;
+    private int positionalUpdateStamp;
+
+    // Virtual voices that came back into range during a positional pass, re-acquired after it
+    // (acquiring a voice may steal one, releasing an instance the pass is iterating over)
+    private final Array<SoundInstance<S>> pendingDevirtualizations = new Array<>(false, 16);
+
+    // Batched mode, positional state is kept in parallel arrays instead (replaces the grid)
+    private final PositionalSoundStore<S> positionalSoundStore = new PositionalSoundStore<>();
+    private boolean isBatchingPositionalSounds;
+
+    // Pooled mode, every pooled instance keeps its slot (handle index) for the system's lifetime
+    private final Array<SoundInstance<S>> soundInstanceSlots = new Array<>();
+    private final Pool<SoundInstance<S>> soundInstancePool = new Pool<>(16) {
+        @Override
+        protected SoundInstance<S> newObject() {
+            SoundInstance<S> instance = new SoundInstance<>();
+            instance.slot = soundInstanceSlots.size;
+            soundInstanceSlots.add(instance);
+            return instance;
+        }
+    };
+    private boolean isPoolingSoundInstances;
+
+    // Voice limiting (0 for no limit), counts are indexed by the sound's ordinal
+    private final int[] soundVoiceCounts;
+    private int maxVoices;
+    private VoiceStealPolicy voiceStealPolicy = VoiceStealPolicy.OLDEST;
+    private int virtualVoiceCount;
+    private long voiceSequence;
+    private long rejectedPlays;
+    private long stolenVoices;
+
+    // Commands queued from any thread (lock-free), drained once per postRender
+    private final ConcurrentLinkedQueue<AudioCommand<S>> commandQueue =
+            new ConcurrentLinkedQueue<>();
+    private final Vector2 commandPosition = new Vector2();
+
+    // Audio banks, banked sounds are loaded on request (refs count the banks holding a sound)
+    private final Array<AudioBank<S>> audioBanks = new Array<>();
+    private final int[] soundBankRefs;
+    private final boolean[] isSoundResident;
+    private final long[] soundBankBytes; // The estimate counted while resident (until unloaded)
+    private final long[] soundLastPlayedFrames;
+    private long bankMemoryBudget = DEFAULT_BANK_MEMORY_BUDGET;
+    private long residentBankBytes;
+    private int loadingBankCount;
+    private long frameCount;
+    @Nullable
+    private AssetManager assets;
+
+    // Coalescing, identical plays within the window are merged into a single voice
+    private final SoundCoalescer<S> soundCoalescer;
+    private boolean isCoalescingSounds;
+
+    // Metrics, only collected while enabled (null otherwise)
+    private final AudioMetrics audioMetrics = new AudioMetrics();
+    @Nullable
+    private AudioMetrics metrics;
+
+    // Sound listeners (split-screen), listener 0 is the default one
+    private final Vector2[] soundListenerPositions = new Vector2[MAX_SOUND_LISTENERS];
+    private final Vector2 soundListenerPosition;
+    private int soundListenerCount = 1;
+    private ListenerMix listenerMix = ListenerMix.NEAREST;
+    private float mixedGain; // Results of the last mixPositional call
+    private float mixedPan;
+
     private float hearRange;
+    private final AttenuationTable attenuation = new AttenuationTable();
 
     private float masterVolume = FULL_VOLUME_RANGE[1];
     private float soundVolume = FULL_VOLUME_RANGE[1];
     private float musicVolume = FULL_VOLUME_RANGE[1];
 
-    // Cached Values
-    private float currentSoundVolume = FULL_VOLUME_RANGE[1];
-    private float currentMusicVolume = FULL_VOLUME_RANGE[1];
+    // Mixer buses, master -> music/sfx/ui/voice (custom buses can be added under any bus)
+    private final ObjectMap<String, AudioBus> buses = new ObjectMap<>();
+    private final AudioBus masterBus;
+    private final AudioBus musicBus;
+    private final AudioBus sfxBus;
+    private final AudioBus[] soundBuses; // Resolved buses, indexed by the sound's ordinal
 
-    private final LinkedList<MusicInstance<M>> musicQueue = new LinkedList<>();
+    // Ring buffer, the next track is primed ahead of time and started gapless (or crossfaded)
+    private final Queue<MusicInstance<M>> musicQueue = new Queue<>();
+    private float musicPrefetchTime = DEFAULT_MUSIC_PREFETCH_TIME;
+    private float musicCrossfade = DEFAULT_MUSIC_CROSSFADE;
 
     public AudioSystem(Class<S> soundClass, Class<M> musicClass, float hearRange) {
         this.soundClass = soundClass;
@@ -74,8 +195,30 @@ public final class AudioSystem<S extends Enum<S> & SoundAsset,
 
         this.soundDurationMap = new EnumMap<>(soundClass);
         this.musicDurationMap = new EnumMap<>(musicClass);
+        this.soundVoiceCounts = new int[soundClass.getEnumConstants().length];
+        this.soundBuses = new AudioBus[soundVoiceCounts.length];
+        this.soundBankRefs = new int[soundVoiceCounts.length];
+        this.isSoundResident = new boolean[soundVoiceCounts.length];
+        this.soundBankBytes = new long[soundVoiceCounts.length];
+        this.soundLastPlayedFrames = new long[soundVoiceCounts.length];
+        this.soundCoalescer = new SoundCoalescer<>(soundVoiceCounts.length,
+                DEFAULT_COALESCE_WINDOW);
+
+        masterBus = new AudioBus(MASTER_BUS, null);
+        buses.put(MASTER_BUS, masterBus);
+        musicBus = createBus(MUSIC_BUS, MASTER_BUS);
+        sfxBus = createBus(SFX_BUS, MASTER_BUS);
+        createBus(UI_BUS, MASTER_BUS);
+        createBus(VOICE_BUS, MASTER_BUS);
+
+        for (int i = 0; i < MAX_SOUND_LISTENERS; i++) {
+            soundListenerPositions[i] = new Vector2();
+        }
+        soundListenerPosition = soundListenerPositions[0];
 
         this.hearRange = Math.abs(hearRange);
+        attenuation.setHearRange(this.hearRange);
+        soundGrid.setCellSize(this.hearRange, activePositionalSoundInstances);
     }
 
     public void savePreferences() {
@@ -90,61 +233,148 @@ public final class AudioSystem<S extends Enum<S> & SoundAsset,
         soundVolume = preferences.getFloat(SOUND_VOLUME_PREF, FULL_VOLUME_RANGE[1]);
         musicVolume = preferences.getFloat(MUSIC_VOLUME_PREF, FULL_VOLUME_RANGE[1]);
 
+        setMasterVolume(masterVolume);
         setSoundVolume(soundVolume);
         setMusicVolume(musicVolume);
     }
 
     /** MUST BE CALLED FOR PROPER SOUND AND MUSIC HANDLING */
     public void postRender() {
+        frameCount++;
+        updateBanks();
+        applyCommands();
+        masterBus.applyVolumes();
+
+        long musicQueueTime = metrics != null ? TimeUtils.nanoTime() : 0L;
         updateMusicQueue();
 
-        for (int i = activeSoundInstances.size - 1; i > -1; i--) {
-            SoundInstance<S> instance = activeSoundInstances.get(i);
-            instance.update();
+        // One timestamp per frame, only the instances that are due (or stopped) are visited
+        long frameTime = TimeUtils.nanoTime();
+        if (metrics != null) {
+            metrics.musicQueueNanos = frameTime - musicQueueTime;
+        }
+        Array<SoundInstance<S>> stoppedInstances = completionScheduler.stoppedInstances;
+        for (int i = 0; i < stoppedInstances.size; i++) {
+            SoundInstance<S> instance = stoppedInstances.get(i);
+            if (instance.isStopQueued) { // Stolen voices are already released
+                releaseSoundInstance(instance);
+            }
+        }
+        stoppedInstances.clear();
+
+        SoundInstance<S> instance;
+        while ((instance = completionScheduler.pollDue(frameTime)) != null) {
+            if (!instance.advance(frameTime)) {
+                releaseSoundInstance(instance);
+                continue;
+            }
 
-            if (instance.isFinished()) {
-                activeSoundInstances.removeIndex(i);
+            completionScheduler.schedule(instance);
+            if (instance.hasLooped) {
+                instance.hasLooped = false;
 
-                // Handle positional sound (making sure to deal with unordered array removal)
-                if (instance.positionArrayIndex != -1) {
-                    activePositionalSoundInstances.get(activePositionalSoundInstances.size - 1)
-                            .positionArrayIndex = instance.positionArrayIndex;
-                    activePositionalSoundInstances.removeIndex(instance.positionArrayIndex);
-                    instance.positionArrayIndex = -1;
+                // Retries a voice that came back into range without one (voice limit reached)
+                if (instance.isVirtual && instance.isInRange && !instance.isPaused()) {
+                    devirtualizeSoundInstance(instance);
                 }
             }
         }
 
-        for (SoundInstance<S> instance : activePositionalSoundInstances) {
-            if (instance.positionUpdated) {
-                updatePositionalSoundInstance(instance);
+        if (isBatchingPositionalSounds) {
+            if (positionalSoundStore.isDirty) {
+                updatePositionalSoundBatch();
             }
+        } else {
+            for (SoundInstance<S> instance : activePositionalSoundInstances) {
+                if (instance.positionUpdated) {
+                    soundGrid.move(instance);
+                    updatePositionalInstance(instance);
+                }
+            }
+            devirtualizePending();
+        }
+
+        if (metrics != null) {
+            long time = TimeUtils.nanoTime();
+            metrics.instanceLoopNanos = time - frameTime;
+            metrics.endFrame(activeSoundInstances.size - virtualVoiceCount,
+                    activePositionalSoundInstances.size, virtualVoiceCount, time);
         }
     }
 
+    /**
+     * Activates the current track and handles the transition to the next, which is primed
+     * {@link #getMusicPrefetchTime()} seconds before the current track ends. Without a crossfade,
+     * the next track is started within a frame of the current track's end (gapless).
+     */
     public void updateMusicQueue() {
         if (musicQueue.isEmpty()) {
             return;
         }
 
-        MusicInstance<M> current = musicQueue.peekFirst();
-        if (!current.isActive()) {
-            current.setMasterVolume(currentMusicVolume);
-            current.setActive(true);
-        }
+        MusicInstance<M> current = musicQueue.first();
+        activateMusicInstance(current);
 
         if (current.isFinished()) {
             current.setActive(false);
+            unrouteMusicInstance(current);
             musicQueue.removeFirst();
 
             if (!musicQueue.isEmpty()) {
-                current = musicQueue.peekFirst();
-                current.setMasterVolume(currentMusicVolume);
-                current.setActive(true);
+                current = musicQueue.first();
+                current.setFadeVolume(FULL_VOLUME_RANGE[1]); // Cuts short an unfinished crossfade
+                activateMusicInstance(current);
                 current.update();
             }
-        } else {
-            current.update();
+            return;
+        }
+        current.update();
+
+        MusicInstance<M> next = musicQueue.size > 1 ? musicQueue.get(1) : null;
+        if (next == null || next.music == current.music || current.isLooping() ||
+                current.isPaused()) {
+            return; // No transition (the same Music can't overlap itself)
+        }
+        if (next.isActive()) {
+            next.update();
+        }
+        if (current.duration <= 0f) {
+            return; // Unknown duration (failed probe), the queue advances on completion instead
+        }
+
+        float remaining = current.duration - current.getPosition();
+        if (remaining <= musicPrefetchTime) {
+            next.prime();
+        }
+
+        if (musicCrossfade > 0f) {
+            if (remaining <= musicCrossfade) {
+                // Equal power crossfade
+                float progress = 1f - Math.max(remaining, 0f) / musicCrossfade;
+                progress *= MathUtils.HALF_PI;
+                next.setFadeVolume(MathUtils.sin(progress));
+                activateMusicInstance(next);
+                current.setFadeVolume(MathUtils.cos(progress));
+            }
+        } else if (remaining <= Gdx.graphics.getDeltaTime()) {
+            activateMusicInstance(next);
+        }
+    }
+
+    private void activateMusicInstance(MusicInstance<M> instance) {
+        if (!instance.isActive()) {
+            routeMusicInstance(instance);
+            instance.setActive(true);
+        }
+    }
+
+    /** Deactivates the next track if it was started early, used before the queue is reordered. */
+    private void deactivateNextMusic() {
+        if (musicQueue.size > 1 && musicQueue.get(1).isActive()) {
+            MusicInstance<M> next = musicQueue.get(1);
+            next.setActive(false);
+            next.setFadeVolume(FULL_VOLUME_RANGE[1]);
+            unrouteMusicInstance(next);
         }
     }
 
@@ -181,16 +411,640 @@ public final class AudioSystem<S extends Enum<S> & SoundAsset,
         pitch = MathUtils.clamp(pitch, FULL_PITCH_RANGE[0], FULL_PITCH_RANGE[1]);
         pan = MathUtils.clamp(pan, FULL_PAN_RANGE[0], FULL_PAN_RANGE[1]);
 
-        long id = loop ? sound.get().loop(currentSoundVolume * volume, pitch, pan) :
-                sound.get().play(currentSoundVolume * volume, pitch, pan);
+        if (!useSound(sound)) {
+            return nullSoundInstance; // Its bank isn't loaded (yet)
+        }
+
+        long now = 0L;
+        if (isCoalescingSounds && !loop) {
+            now = TimeUtils.nanoTime();
+            SoundInstance<S> merged = soundCoalescer.merge(sound, volume, now);
+            if (merged != null) {
+                return merged;
+            }
+            if (soundCoalescer.throttle(sound, now)) {
+                return nullSoundInstance;
+            }
+        }
+
+        if (!acquireVoice(sound)) {
+            return nullSoundInstance;
+        }
+
+        float busVolume = getSoundBus(sound).getEffectiveVolume();
+        long id = loop ? sound.get().loop(busVolume * volume, pitch, pan) :
+                sound.get().play(busVolume * volume, pitch, pan);
         SoundInstance<S> instance =
-                new SoundInstance<>(sound, volume, currentSoundVolume, pitch, pan, loop, id,
-                        getSoundDuration(sound));
-        activeSoundInstances.add(instance);
+                obtainSoundInstance(sound, volume, busVolume, pitch, pan, loop, id);
+        addActiveSoundInstance(instance);
+
+        if (isCoalescingSounds && !loop) {
+            soundCoalescer.record(instance, volume, now);
+        }
+        return instance;
+    }
+
+    private SoundInstance<S> obtainSoundInstance(S sound, float volume, float masterVolume,
+                                                 float pitch, float pan, boolean loop, long id) {
+        if (metrics != null) {
+            metrics.plays++;
+            if (isPoolingSoundInstances && soundInstancePool.getFree() > 0) {
+                metrics.recycledInstances++;
+            } else {
+                metrics.allocatedInstances++;
+            }
+        }
 
+        SoundInstance<S> instance = isPoolingSoundInstances ? soundInstancePool.obtain() :
+                new SoundInstance<>();
+        instance.init(sound, volume, masterVolume, pitch, pan, loop, id, getSoundDuration(sound));
+        instance.sequence = voiceSequence++;
+        instance.metrics = metrics;
         return instance;
     }
 
+    private void addActiveSoundInstance(SoundInstance<S> instance) {
+        instance.activeArrayIndex = activeSoundInstances.size;
+        activeSoundInstances.add(instance);
+        getSoundBus(instance.getSoundAsset()).addSoundInstance(instance);
+
+        instance.scheduler = completionScheduler;
+        if (instance.isFinished()) { // The backend failed to play it
+            completionScheduler.stopped(instance);
+        } else {
+            completionScheduler.schedule(instance);
+        }
+
+        if (instance.isVirtual) {
+            virtualVoiceCount++;
+        } else {
+            soundVoiceCounts[instance.getSoundAsset().ordinal()]++;
+        }
+    }
+
+    private void virtualizeSoundInstance(SoundInstance<S> instance) {
+        if (instance.isVirtual || instance.isFinished()) {
+            return;
+        }
+
+        instance.virtualize();
+        soundVoiceCounts[instance.getSoundAsset().ordinal()]--;
+        virtualVoiceCount++;
+    }
+
+    private void devirtualizeSoundInstance(SoundInstance<S> instance) {
+        if (!acquireVoice(instance.getSoundAsset())) {
+            return; // Stays virtual, retried on the next loop boundary
+        }
+
+        instance.devirtualize();
+        virtualVoiceCount--;
+        soundVoiceCounts[instance.getSoundAsset().ordinal()]++;
+        if (!instance.isFinished()) {
+            completionScheduler.schedule(instance); // The loop restarted
+        }
+    }
+
+    /**
+     * A virtual voice that came back into range is queued, then restarted once the positional pass
+     * ends (see {@link #devirtualizePending()}), still within the same frame.
+     */
+    private void enterRange(SoundInstance<S> instance) {
+        setInRange(instance, true);
+        if (instance.isVirtual && !instance.isPaused() && !instance.isDevirtualizeQueued) {
+            instance.isDevirtualizeQueued = true;
+            pendingDevirtualizations.add(instance);
+        }
+    }
+
+    /** Restarts the queued virtual voices, CALLED ONCE A POSITIONAL PASS ENDS. */
+    private void devirtualizePending() {
+        for (int i = 0; i < pendingDevirtualizations.size; i++) {
+            SoundInstance<S> instance = pendingDevirtualizations.get(i);
+            instance.isDevirtualizeQueued = false;
+
+            // May have been stolen (released) by a previous instance, or left the range again
+            if (instance.activeArrayIndex != -1 && instance.isVirtual && instance.isInRange &&
+                    !instance.isPaused()) {
+                devirtualizeSoundInstance(instance);
+            }
+        }
+        pendingDevirtualizations.clear();
+    }
+
+    /** Removes a finished instance from the active arrays (unordered, O(1)) and recycles it. */
+    private void releaseSoundInstance(SoundInstance<S> instance) {
+        completionScheduler.remove(instance);
+        instance.scheduler = null;
+        instance.isStopQueued = false;
+
+        if (instance.activeArrayIndex != -1) {
+            activeSoundInstances.peek().activeArrayIndex = instance.activeArrayIndex;
+            activeSoundInstances.removeIndex(instance.activeArrayIndex);
+            instance.activeArrayIndex = -1;
+
+            if (instance.isVirtual) {
+                virtualVoiceCount--;
+            } else {
+                soundVoiceCounts[instance.getSoundAsset().ordinal()]--;
+            }
+        }
+        if (instance.bus != null) {
+            instance.bus.removeSoundInstance(instance);
+        }
+
+        // Handle positional sound (making sure to deal with unordered array removal)
+        if (instance.positionArrayIndex != -1) {
+            activePositionalSoundInstances.peek().positionArrayIndex =
+                    instance.positionArrayIndex;
+            activePositionalSoundInstances.removeIndex(instance.positionArrayIndex);
+            if (isBatchingPositionalSounds) {
+                positionalSoundStore.removeIndex(instance.positionArrayIndex);
+            } else {
+                soundGrid.remove(instance);
+            }
+            instance.positionArrayIndex = -1;
+            setInRange(instance, false);
+        }
+        freeSoundInstance(instance);
+    }
+
+    /**
+     * Makes room for a new voice of the given sound, stealing a voice (see
+     * {@link VoiceStealPolicy}) if the per-sound or global voice limit has been reached.
+     *
+     * @return Whether the sound can be played.
+     */
+    private boolean acquireVoice(S sound) {
+        int soundLimit = sound.maxVoices();
+        if (soundLimit > 0 && soundVoiceCounts[sound.ordinal()] >= soundLimit &&
+                !stealVoice(sound, sound.priority())) {
+            rejectedPlays++;
+            return false;
+        }
+
+        if (maxVoices > 0 && activeSoundInstances.size - virtualVoiceCount >= maxVoices &&
+                !stealVoice(null, sound.priority())) {
+            rejectedPlays++;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Stops the lowest priority voice (of an equal or lower priority), ties are broken by the
+     * {@link VoiceStealPolicy}.
+     *
+     * @param sound If not null, only voices of this sound are considered.
+     * @return Whether a voice was stolen.
+     */
+    private boolean stealVoice(@Nullable S sound, int priority) {
+        if (voiceStealPolicy == VoiceStealPolicy.REJECT) {
+            return false;
+        }
+
+        SoundInstance<S> victim = null;
+        for (SoundInstance<S> instance : activeSoundInstances) {
+            if (instance.isVirtual || (sound != null && instance.getSoundAsset() != sound) ||
+                    instance.getSoundAsset().priority() > priority) {
+                continue;
+            }
+
+            if (victim == null || isBetterVictim(instance, victim)) {
+                victim = instance;
+            }
+        }
+
+        if (victim == null) {
+            return false;
+        }
+        victim.stop();
+        releaseSoundInstance(victim);
+        stolenVoices++;
+        return true;
+    }
+
+    private boolean isBetterVictim(SoundInstance<S> instance, SoundInstance<S> victim) {
+        int instancePriority = instance.getSoundAsset().priority();
+        int victimPriority = victim.getSoundAsset().priority();
+        if (instancePriority != victimPriority) {
+            return instancePriority < victimPriority;
+        }
+
+        if (voiceStealPolicy == VoiceStealPolicy.QUIETEST &&
+                instance.getRawVolume() != victim.getRawVolume()) {
+            return instance.getRawVolume() < victim.getRawVolume();
+        }
+        return instance.sequence < victim.sequence;
+    }
+
+    private void freeSoundInstance(SoundInstance<S> instance) {
+        // Only pooled instances have a slot (pooling may have been toggled while playing)
+        if (instance.slot != -1) {
+            soundInstancePool.free(instance);
+        }
+    }
+
+    public QueuedSound<S> queuePlaySound(S sound) {
+        return queuePlaySound(sound, FULL_VOLUME_RANGE[1], DEFAULT_PITCH, DEFAULT_PAN, false);
+    }
+
+    public QueuedSound<S> queuePlaySound(S sound, float volume) {
+        return queuePlaySound(sound, volume, DEFAULT_PITCH, DEFAULT_PAN, false);
+    }
+
+    /**
+     * THREAD-SAFE, queues a {@link #playSound} call that is applied during the next
+     * {@link #postRender()}.
+     *
+     * @return A handle that resolves once the play is applied.
+     */
+    public QueuedSound<S> queuePlaySound(S sound, float volume, float pitch, float pan,
+                                         boolean loop) {
+        QueuedSound<S> queuedSound = new QueuedSound<>(this, sound);
+        AudioCommand<S> command = new AudioCommand<>(AudioCommand.Type.PLAY, queuedSound);
+        command.volume = volume;
+        command.pitch = pitch;
+        command.pan = pan;
+        command.loop = loop;
+        commandQueue.offer(command);
+        return queuedSound;
+    }
+
+    public QueuedSound<S> queuePlaySoundAt(float x, float y, S sound) {
+        return queuePlaySoundAt(x, y, sound, FULL_VOLUME_RANGE[1], DEFAULT_PITCH, false);
+    }
+
+    /**
+     * THREAD-SAFE, queues a {@link #playSoundAt} call that is applied during the next
+     * {@link #postRender()}.
+     *
+     * @return A handle that resolves once the play is applied.
+     */
+    public QueuedSound<S> queuePlaySoundAt(float x, float y, S sound, float volume, float pitch,
+                                           boolean loop) {
+        QueuedSound<S> queuedSound = new QueuedSound<>(this, sound);
+        AudioCommand<S> command = new AudioCommand<>(AudioCommand.Type.PLAY, queuedSound);
+        command.isPositional = true;
+        command.x = x;
+        command.y = y;
+        command.volume = volume;
+        command.pitch = pitch;
+        command.loop = loop;
+        commandQueue.offer(command);
+        return queuedSound;
+    }
+
+    void enqueue(AudioCommand<S> command) {
+        commandQueue.offer(command);
+    }
+
+    /** Applies every queued command in order (render thread). */
+    private void applyCommands() {
+        AudioCommand<S> command;
+        while ((command = commandQueue.poll()) != null) {
+            QueuedSound<S> target = command.target;
+            if (command.type == AudioCommand.Type.PLAY) {
+                SoundInstance<S> instance;
+                if (command.isPositional) {
+                    instance = playSoundAt(commandPosition.set(command.x, command.y),
+                            target.getSoundAsset(), command.volume, command.pitch, command.loop);
+                } else {
+                    instance = playSound(target.getSoundAsset(), command.volume, command.pitch,
+                            command.pan, command.loop);
+                }
+                target.resolve(instance);
+                continue;
+            }
+
+            SoundInstance<S> instance = target.getInstance();
+            if (instance == null) {
+                continue; // Its play hasn't been applied (it was queued on another system)
+            }
+
+            switch (command.type) {
+                case STOP:
+                    instance.stop();
+                    break;
+                case SET_VOLUME:
+                    instance.setRelativeVolume(command.volume);
+                    break;
+                case SET_PITCH:
+                    instance.setPitch(command.pitch);
+                    break;
+                case SET_PAN:
+                    instance.setPan(command.pan);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /** @return The amount of commands waiting for the next postRender (O(n), for debugging). */
+    public int getQueuedCommandCount() {
+        return commandQueue.size();
+    }
+
+    /**
+     * Resolves a handle from {@link SoundInstance#handle()}.
+     *
+     * @return The instance, or the {@link #nullSoundInstance} if the handle is stale (the instance
+     * finished and was recycled).
+     */
+    public SoundInstance<S> getSoundInstance(long handle) {
+        int slot = (int) (handle >>> 32);
+        if (handle == INVALID_SOUND_HANDLE || slot < 0 || slot >= soundInstanceSlots.size) {
+            return nullSoundInstance;
+        }
+
+        SoundInstance<S> instance = soundInstanceSlots.get(slot);
+        return instance.generation == (int) handle ? instance : nullSoundInstance;
+    }
+
+    /**
+     * In pooled mode, finished sound instances are recycled by {@link #postRender()} instead of
+     * being left to the GC. Returned instances are then ONLY VALID UNTIL THEY FINISH, keep a
+     * {@link SoundInstance#handle()} and resolve it with {@link #getSoundInstance(long)} instead.
+     */
+    public void setSoundInstancePooling(boolean poolSoundInstances) {
+        isPoolingSoundInstances = poolSoundInstances;
+    }
+
+    public boolean isPoolingSoundInstances() {
+        return isPoolingSoundInstances;
+    }
+
+    /**
+     * While coalescing, identical non-looping {@link #playSound} calls within the coalesce window
+     * are merged into the first call's voice (returning the same instance), its volume becomes the
+     * energy sum of every merged play. Plays within a sound's
+     * {@link SoundAsset#minRetriggerInterval()} (that weren't merged) are dropped, returning the
+     * {@link #nullSoundInstance}. Positional sounds are never coalesced.
+     */
+    public void setSoundCoalescing(boolean coalesceSounds) {
+        isCoalescingSounds = coalesceSounds;
+    }
+
+    public boolean isCoalescingSounds() {
+        return isCoalescingSounds;
+    }
+
+    /** @param window The time (in seconds) after a voice starts that plays are merged into it. */
+    public void setCoalesceWindow(float window) {
+        soundCoalescer.setWindow(window);
+    }
+
+    public float getCoalesceWindow() {
+        return soundCoalescer.getWindow();
+    }
+
+    /** @return The amount of plays merged into an existing voice (since the last reset). */
+    public long getMergedPlays() {
+        return soundCoalescer.getMergedPlays();
+    }
+
+    /** @return The amount of plays dropped by a min retrigger interval (since the last reset). */
+    public long getThrottledPlays() {
+        return soundCoalescer.getThrottledPlays();
+    }
+
+    public void resetCoalescingMetrics() {
+        soundCoalescer.resetMetrics();
+    }
+
+    /**
+     * Starts loading the bank's sounds asynchronously (if it isn't already loaded), the bank is
+     * marked as recently used. Should be called after {@link #loadToAssets(AssetManager)}, the
+     * AssetManager's owner must keep calling its update() (the SceneManager does every frame).
+     */
+    public void requestBank(AudioBank<S> bank) {
+        bank.lastUsedFrame = frameCount;
+        if (!audioBanks.contains(bank, true)) {
+            audioBanks.add(bank);
+        }
+        if (bank.state != AudioBank.State.UNLOADED) {
+            return;
+        }
+        if (assets == null) {
+            Gdx.app.error("AudioSystem", "Bank requested before loading: " + bank.name);
+            return;
+        }
+
+        bank.state = AudioBank.State.LOADING;
+        loadingBankCount++;
+        for (S sound : bank.sounds) {
+            if (sound.isBanked() && soundBankRefs[sound.ordinal()]++ == 0) {
+                sound.loadToAssets(assets);
+                soundBankBytes[sound.ordinal()] = estimateBankBytes(sound);
+                residentBankBytes += soundBankBytes[sound.ordinal()];
+            }
+        }
+        evictBanks();
+    }
+
+    /** The bank is no longer in use, so it can be evicted (it stays loaded until then). */
+    public void releaseBank(AudioBank<S> bank) {
+        bank.isInUse = false;
+        evictBanks();
+    }
+
+    /**
+     * Marks the given banks as in use (never evicted) and requests them, releasing every other
+     * bank. Called by the SceneManager when a scene is set.
+     */
+    public void setBanksInUse(Array<AudioBank<S>> banks) {
+        for (AudioBank<S> bank : audioBanks) {
+            bank.isInUse = false;
+        }
+        for (AudioBank<S> bank : banks) {
+            bank.isInUse = true;
+            requestBank(bank);
+        }
+        evictBanks();
+    }
+
+    /** Finishes the banks whose sounds were loaded (by the AssetManager's owner). */
+    private void updateBanks() {
+        if (loadingBankCount == 0 || assets == null) {
+            return;
+        }
+
+        for (AudioBank<S> bank : audioBanks) {
+            if (bank.state != AudioBank.State.LOADING || !isBankReady(bank)) {
+                continue;
+            }
+
+            for (S sound : bank.sounds) {
+                if (sound.isBanked() && !isSoundResident[sound.ordinal()]) {
+                    sound.loadFromAssets(assets);
+                    isSoundResident[sound.ordinal()] = true;
+                }
+            }
+            bank.state = AudioBank.State.LOADED;
+            loadingBankCount--;
+        }
+    }
+
+    private boolean isBankReady(AudioBank<S> bank) {
+        for (S sound : bank.sounds) {
+            String path = sound.path();
+            if (sound.isBanked() && path != null && !assets.isLoaded(path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Unloads the least recently used (loaded) banks until the memory budget is met. */
+    private void evictBanks() {
+        while (residentBankBytes > bankMemoryBudget) {
+            AudioBank<S> victim = null;
+            long victimFrame = Long.MAX_VALUE;
+            for (AudioBank<S> bank : audioBanks) {
+                if (bank.state != AudioBank.State.LOADED || bank.isInUse) {
+                    continue;
+                }
+
+                long lastUsedFrame = getLastUsedFrame(bank);
+                if (lastUsedFrame < victimFrame) {
+                    victim = bank;
+                    victimFrame = lastUsedFrame;
+                }
+            }
+
+            if (victim == null) {
+                return; // Everything left is in use (or still loading)
+            }
+            unloadBank(victim);
+        }
+    }
+
+    /** @return The last frame the bank was requested or one of its sounds was played. */
+    private long getLastUsedFrame(AudioBank<S> bank) {
+        long lastUsedFrame = bank.lastUsedFrame;
+        for (S sound : bank.sounds) {
+            lastUsedFrame = Math.max(lastUsedFrame, soundLastPlayedFrames[sound.ordinal()]);
+        }
+        return lastUsedFrame;
+    }
+
+    private void unloadBank(AudioBank<S> bank) {
+        bank.state = AudioBank.State.UNLOADED;
+        for (S sound : bank.sounds) {
+            int i = sound.ordinal();
+            if (!sound.isBanked() || --soundBankRefs[i] > 0) {
+                continue;
+            }
+
+            // Still playing instances are stopped (released next postRender)
+            for (int j = activeSoundInstances.size - 1; j > -1; j--) {
+                if (activeSoundInstances.get(j).getSoundAsset() == sound) {
+                    activeSoundInstances.get(j).stop();
+                }
+            }
+            sound.unloadFromAssets(assets);
+            isSoundResident[i] = false;
+            residentBankBytes -= soundBankBytes[i]; // The same estimate that was counted
+            soundBankBytes[i] = 0L;
+        }
+    }
+
+    private long estimateBankBytes(S sound) {
+        Float duration = soundDurationMap.get(sound);
+        return duration != null ? (long) (duration * BANK_BYTES_PER_SECOND) : 0L;
+    }
+
+    /** @return Whether the sound can be played, banked sounds are only loaded with their bank. */
+    public boolean isSoundLoaded(S sound) {
+        return !sound.isBanked() || isSoundResident[sound.ordinal()];
+    }
+
+    /** Marks the sound as used (keeping its banks from being evicted) before it's played. */
+    private boolean useSound(S sound) {
+        soundLastPlayedFrames[sound.ordinal()] = frameCount;
+        return isSoundLoaded(sound);
+    }
+
+    /** @param budget The max (estimated) memory of every loaded bank, in bytes. */
+    public void setBankMemoryBudget(long budget) {
+        bankMemoryBudget = Math.max(0L, budget);
+        evictBanks();
+    }
+
+    public long getBankMemoryBudget() {
+        return bankMemoryBudget;
+    }
+
+    /** @return The estimated memory of every loaded (and loading) bank, in bytes. */
+    public long getResidentBankBytes() {
+        return residentBankBytes;
+    }
+
+    /** DO NOT ALTER, GETTER ONLY */
+    public Array<AudioBank<S>> getAudioBanks() {
+        return audioBanks;
+    }
+
+    /**
+     * In batched mode, positional sounds are kept in a structure-of-arrays store. Gain and pan are
+     * computed for every positional sound in one pass during {@link #postRender()} (listener and
+     * hear range changes are deferred to it), and only changed values are pushed to the backend.
+     * <p>
+     * Faster when most positional sounds are within (or near) the hear range, otherwise the grid
+     * (default) only visits the sounds near the listener.
+     */
+    public void setPositionalBatching(boolean batchPositionalSounds) {
+        if (isBatchingPositionalSounds == batchPositionalSounds) {
+            return;
+        }
+
+        isBatchingPositionalSounds = batchPositionalSounds;
+        if (batchPositionalSounds) {
+            soundGrid.clear();
+            for (SoundInstance<S> instance : activePositionalSoundInstances) {
+                positionalSoundStore.add(instance);
+            }
+        } else {
+            positionalSoundStore.clear();
+            soundGrid.rebuild(activePositionalSoundInstances);
+            for (SoundInstance<S> instance : activePositionalSoundInstances) {
+                soundGrid.move(instance); // Positions may have changed without being flagged
+                updatePositionalInstance(instance);
+            }
+            devirtualizePending();
+        }
+    }
+
+    public boolean isBatchingPositionalSounds() {
+        return isBatchingPositionalSounds;
+    }
+
+    /**
+     * Enables the collection of {@link AudioMetrics} (voice counts, play rate, instance reuse,
+     * postRender timings and backend calls per frame). Disabled by default, costing nothing but
+     * a null check.
+     */
+    public void setMetricsEnabled(boolean enableMetrics) {
+        if (isMetricsEnabled() == enableMetrics) {
+            return;
+        }
+
+        metrics = enableMetrics ? audioMetrics : null;
+        for (SoundInstance<S> instance : activeSoundInstances) {
+            instance.metrics = metrics;
+        }
+    }
+
+    public boolean isMetricsEnabled() {
+        return metrics != null;
+    }
+
+    /** @return The metrics, only updated while enabled. */
+    public AudioMetrics getMetrics() {
+        return audioMetrics;
+    }
+
     public void setSoundListenerPosition(Vector2 position) {
         if (position != null) {
             setSoundListenerPosition(position.x, position.y);
@@ -198,45 +1052,264 @@ public final class AudioSystem<S extends Enum<S> & SoundAsset,
     }
 
     public void setSoundListenerPosition(float x, float y) {
-        if (!soundListenerPosition.epsilonEquals(x, y)) {
-            soundListenerPosition.set(x, y);
+        setSoundListenerPosition(0, x, y);
+    }
+
+    public void setSoundListenerPosition(int listener, Vector2 position) {
+        if (position != null) {
+            setSoundListenerPosition(listener, position.x, position.y);
+        }
+    }
+
+    public void setSoundListenerPosition(int listener, float x, float y) {
+        if (listener < 0 || listener >= soundListenerCount) {
+            Gdx.app.error("AudioSystem", "Sound listener " + listener + " does not exist!");
+            return;
+        }
+
+        Vector2 listenerPosition = soundListenerPositions[listener];
+        if (!listenerPosition.epsilonEquals(x, y)) {
+            listenerPosition.set(x, y);
+            if (isBatchingPositionalSounds) {
+                positionalSoundStore.isDirty = true;
+            } else {
+                updateAllPositionalSoundInstances();
+            }
+        }
+    }
+
+    /**
+     * Sets the amount of sound listeners (1 to {@link #MAX_SOUND_LISTENERS}), for split-screen.
+     * Every positional instance is still mixed once, from every listener's contribution (see
+     * {@link #setListenerMix(ListenerMix)}). Added listeners start at the origin.
+     */
+    public void setSoundListenerCount(int count) {
+        count = MathUtils.clamp(count, 1, MAX_SOUND_LISTENERS);
+        if (soundListenerCount == count) {
+            return;
+        }
+
+        for (int i = soundListenerCount; i < count; i++) {
+            soundListenerPositions[i].setZero();
+        }
+        soundListenerCount = count;
+        if (isBatchingPositionalSounds) {
+            positionalSoundStore.isDirty = true;
+        } else {
             updateAllPositionalSoundInstances();
         }
     }
 
+    public int getSoundListenerCount() {
+        return soundListenerCount;
+    }
+
+    public void setListenerMix(ListenerMix mix) {
+        if (mix == null || listenerMix == mix) {
+            return;
+        }
+
+        listenerMix = mix;
+        if (soundListenerCount > 1) {
+            if (isBatchingPositionalSounds) {
+                positionalSoundStore.isDirty = true;
+            } else {
+                updateAllPositionalSoundInstances();
+            }
+        }
+    }
+
+    public ListenerMix getListenerMix() {
+        return listenerMix;
+    }
+
     public void setHearRange(float newRange) {
         newRange = Math.abs(newRange);
 
         if (hearRange != newRange) {
             hearRange = newRange;
-            updateAllPositionalSoundInstances();
+            attenuation.setHearRange(hearRange);
+            if (isBatchingPositionalSounds) {
+                positionalSoundStore.isDirty = true;
+            } else {
+                soundGrid.setCellSize(hearRange, activePositionalSoundInstances);
+                updateAllPositionalSoundInstances();
+            }
         }
     }
 
-    /** AUTOMATICALLY CALLED IN UPDATE, BUT CAN CALL MANUALLY WHEN "NECESSARY" */
+    /**
+     * Sets the curve positional sounds fall off with (see {@link AttenuationCurve#LINEAR},
+     * {@link AttenuationCurve#INVERSE} and {@link AttenuationCurve#LOGARITHMIC}), the curve is
+     * baked into a lookup table so custom curves cost the same as the built-in ones.
+     */
+    public void setAttenuationCurve(AttenuationCurve curve) {
+        if (curve == null || attenuation.getCurve() == curve) {
+            return;
+        }
+
+        attenuation.setCurve(curve);
+        if (isBatchingPositionalSounds) {
+            positionalSoundStore.isDirty = true;
+        } else {
+            updateAllPositionalSoundInstances(); // Only the instances in range are affected
+        }
+    }
+
+    public AttenuationCurve getAttenuationCurve() {
+        return attenuation.getCurve();
+    }
+
+    /**
+     * AUTOMATICALLY CALLED IN UPDATE, BUT CAN CALL MANUALLY WHEN "NECESSARY"
+     * <p>
+     * Only updates the instances in the grid cells overlapping the hear range, along with the
+     * previously audible instances (which may have left the hear range).
+     */
     public void updateAllPositionalSoundInstances() {
-        for (SoundInstance<S> instance : activePositionalSoundInstances) {
-            updatePositionalSoundInstance(instance);
+        if (isBatchingPositionalSounds) {
+            updatePositionalSoundBatch();
+            return;
+        }
+
+        // Every listener queries its own cells, instances near multiple listeners are mixed once
+        positionalUpdateStamp++;
+        for (int i = 0; i < soundListenerCount; i++) {
+            Vector2 listenerPosition = soundListenerPositions[i];
+            soundGrid.forEachNear(listenerPosition.x, listenerPosition.y, hearRange,
+                    nearbyInstanceUpdater);
+        }
+
+        // Audible instances that weren't visited are outside the grid query, so out of range
+        for (int i = audiblePositionalSoundInstances.size - 1; i > -1; i--) {
+            SoundInstance<S> instance = audiblePositionalSoundInstances.get(i);
+            if (instance.updateStamp != positionalUpdateStamp) {
+                updatePositionalInstance(instance);
+            }
+        }
+        devirtualizePending(); // Nothing is released while the grid and audible array are walked
+    }
+
+    /** Computes the whole batch, then pushes the changed gains and pans (and range changes). */
+    private void updatePositionalSoundBatch() {
+        PositionalSoundStore<S> store = positionalSoundStore;
+        store.isDirty = false;
+        store.compute(soundListenerPositions, soundListenerCount, listenerMix, attenuation);
+
+        float hearRange2 = attenuation.hearRange2;
+        for (int i = 0; i < store.size; i++) {
+            SoundInstance<S> instance = store.instances[i];
+            if (store.distance2[i] <= hearRange2) {
+                float gain = store.gain[i];
+                float pan = store.pan[i];
+                if (!instance.isInRange || gain != store.pushedGain[i] ||
+                        pan != store.pushedPan[i]) {
+                    instance.setPositionalVolume(gain, pan);
+                    enterRange(instance);
+                    store.pushedGain[i] = gain;
+                    store.pushedPan[i] = pan;
+                }
+            } else if (instance.isInRange) {
+                // Same as updatePositionalSoundInstance, mute and release looping voices
+                instance.setPositionalVolume(FULL_VOLUME_RANGE[0]);
+                setInRange(instance, false);
+                store.pushedGain[i] = FULL_VOLUME_RANGE[0];
+                if (instance.isLooping()) {
+                    virtualizeSoundInstance(instance);
+                }
+            }
+        }
+        devirtualizePending(); // Stolen voices would be swap-removed from the store mid loop
+    }
+
+    private void updateNearbyInstance(SoundInstance<S> instance) {
+        if (instance.updateStamp == positionalUpdateStamp) {
+            return; // Already mixed (near another listener)
+        }
+        instance.updateStamp = positionalUpdateStamp;
+        updatePositionalInstance(instance);
+    }
+
+    /** Tracks whether a positional instance is within the hear range (the audible array). */
+    private void setInRange(SoundInstance<S> instance, boolean isInRange) {
+        instance.isInRange = isInRange;
+        if (isInRange && instance.audibleArrayIndex == -1) {
+            instance.audibleArrayIndex = audiblePositionalSoundInstances.size;
+            audiblePositionalSoundInstances.add(instance);
+        } else if (!isInRange && instance.audibleArrayIndex != -1) {
+            audiblePositionalSoundInstances.peek().audibleArrayIndex = instance.audibleArrayIndex;
+            audiblePositionalSoundInstances.removeIndex(instance.audibleArrayIndex);
+            instance.audibleArrayIndex = -1;
+        }
+    }
+
+    /**
+     * Mixes the contribution of every listener at the position into {@link #mixedGain} and
+     * {@link #mixedPan} (the grid path, the batched path does the same in the store).
+     *
+     * @return Whether the position is within the hear range of any listener.
+     */
+    private boolean mixPositional(float x, float y) {
+        float hearRange2 = attenuation.hearRange2;
+        if (soundListenerCount == 1 || listenerMix == ListenerMix.NEAREST) {
+            float nearest2 = Float.MAX_VALUE;
+            float nearestDx = 0f;
+            for (int i = 0; i < soundListenerCount; i++) {
+                float dx = x - soundListenerPositions[i].x;
+                float dy = y - soundListenerPositions[i].y;
+                float d2 = dx * dx + dy * dy;
+                if (d2 < nearest2) {
+                    nearest2 = d2;
+                    nearestDx = dx;
+                }
+            }
+            mixedGain = attenuation.gain(nearest2);
+            mixedPan = attenuation.pan(nearestDx);
+            return nearest2 <= hearRange2;
+        }
+
+        float gain = 0f;
+        float weightedPan = 0f;
+        boolean isInRange = false;
+        for (int i = 0; i < soundListenerCount; i++) {
+            float dx = x - soundListenerPositions[i].x;
+            float dy = y - soundListenerPositions[i].y;
+            float d2 = dx * dx + dy * dy;
+            if (d2 <= hearRange2) {
+                float g = attenuation.gain(d2);
+                gain += g;
+                weightedPan += attenuation.pan(dx) * g;
+                isInRange = true;
+            }
         }
+        mixedPan = gain > 0f ? weightedPan / gain : 0f;
+        mixedGain = Math.min(gain, FULL_VOLUME_RANGE[1]);
+        return isInRange;
     }
 
     /** AUTOMATICALLY CALLED IN UPDATE, BUT CAN CALL MANUALLY WHEN "NECESSARY" */
     public void updatePositionalSoundInstance(SoundInstance<S> instance) {
+        updatePositionalInstance(instance);
+        devirtualizePending();
+    }
+
+    /** Updates the volume, pan and range of the instance, part of a pass (see enterRange). */
+    private void updatePositionalInstance(SoundInstance<S> instance) {
         if (instance.positionArrayIndex == -1 || instance.getPosition() == null) {
             return;
         }
 
         Vector2 position = instance.getPosition();
-        float pos2 = soundListenerPosition.dst2(position);
-        float hearRange2 = hearRange * hearRange;
-        if (pos2 <= hearRange2) {
-            float distance = (float) Math.sqrt(pos2);
-            float positionalVolume = FULL_VOLUME_RANGE[1] - (distance / hearRange);
-            float pan = (position.x - soundListenerPosition.x) / (hearRange / 2f);
-            instance.setPositionalVolume(positionalVolume, pan);
-        } else {
-            // Mute if outside of range
+        if (mixPositional(position.x, position.y)) {
+            instance.setPositionalVolume(mixedGain, mixedPan);
+            enterRange(instance);
+        } else if (instance.isInRange) {
+            // Mute if outside of range, looping sounds also release their voice (virtual voice)
             instance.setPositionalVolume(FULL_VOLUME_RANGE[0]);
+            setInRange(instance, false);
+            if (instance.isLooping()) {
+                virtualizeSoundInstance(instance);
+            }
         }
         // The position has now been updated, get rid of flag
         instance.positionUpdated = false;
@@ -262,35 +1335,50 @@ public final class AudioSystem<S extends Enum<S> & SoundAsset,
         return playSoundAt(position, sound, volume, pitch, false);
     }
 
-    /** CAN RETURN A NULL_SOUND_INSTANCE (IF NOT IN HEAR_RANGE). */
+    /**
+     * CAN RETURN A NULL_SOUND_INSTANCE (IF NOT IN HEAR_RANGE). Looping sounds outside the hear
+     * range start as virtual voices instead, which acquire a backend voice (restarting the loop)
+     * as soon as they come into range.
+     */
     public SoundInstance<S> playSoundAt(Vector2 position, S sound, float volume, float pitch,
                                         boolean loop) {
-        float pos2 = soundListenerPosition.dst2(position);
-        float hearRange2 = hearRange * hearRange;
+        boolean isInRange = mixPositional(position.x, position.y);
+        if (!useSound(sound)) {
+            return nullSoundInstance; // Its bank isn't loaded (yet)
+        }
 
-        if (pos2 <= hearRange2) {
+        if ((isInRange && acquireVoice(sound)) || (!isInRange && loop)) {
             volume = MathUtils.clamp(volume, FULL_VOLUME_RANGE[0], FULL_VOLUME_RANGE[1]);
             pitch = MathUtils.clamp(pitch, FULL_PITCH_RANGE[0], FULL_PITCH_RANGE[1]);
-            float pan = MathUtils.clamp((position.x - soundListenerPosition.x) / (hearRange / 2f),
-                    FULL_PAN_RANGE[0], FULL_PAN_RANGE[1]);
-
-            float distance = (float) Math.sqrt(pos2);
-            float positionalVolume = Math.max(FULL_VOLUME_RANGE[0],
-                    (FULL_VOLUME_RANGE[1] - (distance / hearRange)));
-            float totalVolume = volume * positionalVolume * currentSoundVolume;
-
-            long id = loop ? sound.get().loop(totalVolume, pitch, pan) :
-                    sound.get().play(totalVolume, pitch, pan);
+            float pan = mixedPan;
+            float positionalVolume = mixedGain;
+            float busVolume = getSoundBus(sound).getEffectiveVolume();
+            float totalVolume = volume * positionalVolume * busVolume;
+
+            long id = INVALID_SOUND_ID;
+            if (isInRange) {
+                id = loop ? sound.get().loop(totalVolume, pitch, pan) :
+                        sound.get().play(totalVolume, pitch, pan);
+            }
 
             SoundInstance<S> instance =
-                    new SoundInstance<>(sound, volume, currentSoundVolume, pitch, pan, loop, id,
-                            getSoundDuration(sound));
+                    obtainSoundInstance(sound, volume, busVolume, pitch, pan, loop, id);
+            if (!isInRange) {
+                instance.startVirtual();
+            }
             instance.setPositionalVolume(positionalVolume);
             instance.setPosition(position);
             instance.positionArrayIndex = activePositionalSoundInstances.size;
 
-            activeSoundInstances.add(instance);
+            addActiveSoundInstance(instance);
             activePositionalSoundInstances.add(instance);
+            if (isBatchingPositionalSounds) {
+                positionalSoundStore.add(instance);
+            } else {
+                soundGrid.insert(instance);
+            }
+            instance.isInRange = false; // Tracked from here on
+            setInRange(instance, isInRange);
             return instance;
         }
 
@@ -313,10 +1401,23 @@ public final class AudioSystem<S extends Enum<S> & SoundAsset,
     public void stopAllSounds() {
         for (SoundInstance<S> s : activeSoundInstances) {
             s.stop();
+            s.activeArrayIndex = -1;
             s.positionArrayIndex = -1;
+            s.audibleArrayIndex = -1;
+            s.scheduler = null;
+            freeSoundInstance(s);
+        }
+        for (AudioBus bus : buses.values()) {
+            bus.clearSoundInstances();
         }
+        completionScheduler.clear();
+        soundGrid.clear();
+        positionalSoundStore.clear();
         activeSoundInstances.clear();
         activePositionalSoundInstances.clear();
+        audiblePositionalSoundInstances.clear();
+        Arrays.fill(soundVoiceCounts, 0);
+        virtualVoiceCount = 0;
     }
 
     public MusicInstance<M> playMusic(M music) {
@@ -342,7 +1443,7 @@ public final class AudioSystem<S extends Enum<S> & SoundAsset,
     /** Overrides the currently playing track, if none, queues and plays the provided track */
     public MusicInstance<M> playMusic(M music, float volume, float pan, boolean loop) {
         if (!musicQueue.isEmpty()) {
-            musicQueue.peekFirst().stop();
+            musicQueue.first().stop();
         }
         return queueNextMusic(music, volume, pan, loop);
     }
@@ -369,13 +1470,17 @@ public final class AudioSystem<S extends Enum<S> & SoundAsset,
 
     /** Queues the next track that will play after the current is done */
     public MusicInstance<M> queueNextMusic(M music, float volume, float pan, boolean loop) {
-        MusicInstance<M> instance = new MusicInstance<>(music, volume, currentMusicVolume, pan,
+        MusicInstance<M> instance = new MusicInstance<>(music, volume,
+                getMusicBus(music).getEffectiveVolume(), pan,
                 loop, musicDurationMap.get(music));
 
         if (musicQueue.isEmpty()) {
             musicQueue.addFirst(instance);
         } else {
-            musicQueue.add(1, instance);
+            deactivateNextMusic();
+            MusicInstance<M> current = musicQueue.removeFirst();
+            musicQueue.addFirst(instance);
+            musicQueue.addFirst(current);
         }
 
         updateMusicQueue();
@@ -404,7 +1509,8 @@ public final class AudioSystem<S extends Enum<S> & SoundAsset,
 
     /** Queues the track that will play after all currently queued tracks are complete */
     public MusicInstance<M> queueMusic(M music, float volume, float pan, boolean loop) {
-        MusicInstance<M> instance = new MusicInstance<>(music, volume, currentMusicVolume, pan,
+        MusicInstance<M> instance = new MusicInstance<>(music, volume,
+                getMusicBus(music).getEffectiveVolume(), pan,
                 loop, musicDurationMap.get(music));
 
         musicQueue.addLast(instance);
@@ -415,7 +1521,7 @@ public final class AudioSystem<S extends Enum<S> & SoundAsset,
     /** Skips the currently playing track */
     public void skipMusic() {
         if (!musicQueue.isEmpty()) {
-            musicQueue.peekFirst().stop();
+            musicQueue.first().stop();
             updateMusicQueue();
         }
     }
@@ -427,58 +1533,180 @@ public final class AudioSystem<S extends Enum<S> & SoundAsset,
 
     /** Stops and deactivates the current track and clears the entire queue */
     public void clearMusicQueue() {
-        if (!musicQueue.isEmpty()) {
-            MusicInstance<M> current = musicQueue.peekFirst();
-            current.setActive(false);
-            current.stop();
-            musicQueue.clear();
+        for (int i = 0; i < musicQueue.size; i++) {
+            MusicInstance<M> instance = musicQueue.get(i);
+            if (instance.isActive()) {
+                instance.setActive(false);
+                instance.stop();
+                unrouteMusicInstance(instance);
+            }
+            instance.unprime();
         }
+        musicQueue.clear();
     }
 
+    /** Pauses the current track (and the next, if crossfading) */
     public void pauseMusic() {
-        if (!musicQueue.isEmpty()) {
-            musicQueue.peekFirst().pause();
+        for (int i = 0; i < Math.min(musicQueue.size, 2); i++) {
+            if (musicQueue.get(i).isActive()) {
+                musicQueue.get(i).pause();
+            }
         }
     }
 
     public void resumeMusic() {
-        if (!musicQueue.isEmpty()) {
-            musicQueue.peekFirst().resume();
+        for (int i = 0; i < Math.min(musicQueue.size, 2); i++) {
+            if (musicQueue.get(i).isActive()) {
+                musicQueue.get(i).resume();
+            }
         }
     }
 
+    /** @param prefetchTime How long (in seconds) before a track ends the next track is primed. */
+    public void setMusicPrefetchTime(float prefetchTime) {
+        musicPrefetchTime = Math.max(0f, prefetchTime);
+    }
+
+    public float getMusicPrefetchTime() {
+        return musicPrefetchTime;
+    }
+
+    /** @param crossfade The crossfade length between queued tracks (in seconds), 0 for gapless. */
+    public void setMusicCrossfade(float crossfade) {
+        musicCrossfade = Math.max(0f, crossfade);
+    }
+
+    public float getMusicCrossfade() {
+        return musicCrossfade;
+    }
+
     /** Stops and deactivates the current track and clears the entire queue */
     public void stopMusic() {
         clearMusicQueue();
     }
 
+    /** Sets the master bus volume, applied to the playing instances in {@link #postRender()}. */
     public void setMasterVolume(float volume) {
         masterVolume = MathUtils.clamp(volume, FULL_VOLUME_RANGE[0], FULL_VOLUME_RANGE[1]);
-        currentSoundVolume = masterVolume * soundVolume;
-        currentMusicVolume = masterVolume * musicVolume;
-
-        for (SoundInstance<S> instance : activeSoundInstances) {
-            instance.setMasterVolume(currentSoundVolume);
-        }
-        if (!musicQueue.isEmpty()) {
-            musicQueue.peekFirst().setMasterVolume(currentMusicVolume);
-        }
+        masterBus.setVolume(masterVolume);
     }
 
+    /** Sets the sfx bus volume, applied to the playing instances in {@link #postRender()}. */
     public void setSoundVolume(float volume) {
         soundVolume = MathUtils.clamp(volume, FULL_VOLUME_RANGE[0], FULL_VOLUME_RANGE[1]);
-        currentSoundVolume = masterVolume * soundVolume;
-        for (SoundInstance<S> instance : activeSoundInstances) {
-            instance.setMasterVolume(currentSoundVolume);
-        }
+        sfxBus.setVolume(soundVolume);
     }
 
+    /** Sets the music bus volume, applied to the current track in {@link #postRender()}. */
     public void setMusicVolume(float volume) {
         musicVolume = MathUtils.clamp(volume, FULL_VOLUME_RANGE[0], FULL_VOLUME_RANGE[1]);
-        currentMusicVolume = masterVolume * musicVolume;
-        if (!musicQueue.isEmpty()) {
-            musicQueue.peekFirst().setMasterVolume(currentMusicVolume);
+        musicBus.setVolume(musicVolume);
+    }
+
+    /**
+     * Creates a custom bus, sounds and tracks are routed through it by returning its name from
+     * {@link SoundAsset#bus()} or {@link MusicAsset#bus()}.
+     *
+     * @param parentName The parent bus, the master bus is used if it doesn't exist.
+     * @return The new bus, or the existing bus if the name is already taken.
+     */
+    public AudioBus createBus(String name, String parentName) {
+        AudioBus bus = buses.get(name);
+        if (bus != null) {
+            Gdx.app.error("AudioSystem", "Bus already exists: " + name);
+            return bus;
         }
+
+        AudioBus parent = buses.get(parentName, masterBus);
+        bus = new AudioBus(name, parent);
+        buses.put(name, bus);
+        return bus;
+    }
+
+    @Nullable
+    public AudioBus getBus(String name) {
+        return buses.get(name);
+    }
+
+    public AudioBus getMasterBus() {
+        return masterBus;
+    }
+
+    /** @return The sound's bus, the sfx bus if it doesn't exist. */
+    private AudioBus getSoundBus(S sound) {
+        AudioBus bus = soundBuses[sound.ordinal()];
+        if (bus == null) {
+            bus = buses.get(sound.bus());
+            if (bus == null) {
+                return sfxBus; // Not cached, the bus may be created later
+            }
+            soundBuses[sound.ordinal()] = bus;
+        }
+        return bus;
+    }
+
+    /** @return The track's bus, the music bus if it doesn't exist. */
+    private AudioBus getMusicBus(M music) {
+        return buses.get(music.bus(), musicBus);
+    }
+
+    private void routeMusicInstance(MusicInstance<M> instance) {
+        AudioBus bus = getMusicBus(instance.musicAsset);
+        if (instance.bus != bus) {
+            unrouteMusicInstance(instance);
+            bus.addMusicInstance(instance);
+        }
+        instance.setMasterVolume(bus.getEffectiveVolume());
+    }
+
+    private void unrouteMusicInstance(MusicInstance<M> instance) {
+        if (instance.bus != null) {
+            instance.bus.removeMusicInstance(instance);
+        }
+    }
+
+    /** @param maxVoices The max amount of sound voices playing at once (0 for no limit). */
+    public void setMaxVoices(int maxVoices) {
+        this.maxVoices = Math.max(0, maxVoices);
+    }
+
+    public int getMaxVoices() {
+        return maxVoices;
+    }
+
+    public void setVoiceStealPolicy(VoiceStealPolicy policy) {
+        if (policy != null) {
+            voiceStealPolicy = policy;
+        }
+    }
+
+    public VoiceStealPolicy getVoiceStealPolicy() {
+        return voiceStealPolicy;
+    }
+
+    /** @return The amount of voices currently playing the given sound. */
+    public int getVoiceCount(S sound) {
+        return soundVoiceCounts[sound.ordinal()];
+    }
+
+    /** @return The amount of active instances without a backend voice (out of range). */
+    public int getVirtualVoiceCount() {
+        return virtualVoiceCount;
+    }
+
+    /** @return The amount of plays rejected by a voice limit (since the last reset). */
+    public long getRejectedPlays() {
+        return rejectedPlays;
+    }
+
+    /** @return The amount of voices stolen for a new play (since the last reset). */
+    public long getStolenVoices() {
+        return stolenVoices;
+    }
+
+    public void resetVoiceMetrics() {
+        rejectedPlays = 0;
+        stolenVoices = 0;
     }
 
     /** DO NOT ALTER, GETTER ONLY */
@@ -493,11 +1721,11 @@ public final class AudioSystem<S extends Enum<S> & SoundAsset,
 
     @Nullable
     public MusicInstance<M> getCurrentMusic() {
-        return musicQueue.peekFirst();
+        return musicQueue.isEmpty() ? null : musicQueue.first();
     }
 
     /** DO NOT ALTER, GETTER ONLY */
-    public LinkedList<MusicInstance<M>> getMusicQueue() {
+    public Queue<MusicInstance<M>> getMusicQueue() {
         return musicQueue;
     }
 
@@ -524,6 +1752,15 @@ public final class AudioSystem<S extends Enum<S> & SoundAsset,
         return soundListenerPosition;
     }
 
+    /** DO NOT ALTER, GETTER ONLY (the first listener's position if it does not exist) */
+    public Vector2 getSoundListenerPosition(int listener) {
+        if (listener < 0 || listener >= soundListenerCount) {
+            Gdx.app.error("AudioSystem", "Sound listener " + listener + " does not exist!");
+            return soundListenerPosition;
+        }
+        return soundListenerPositions[listener];
+    }
+
     public float getHearRange() {
         return hearRange;
     }
@@ -545,29 +1782,91 @@ public final class AudioSystem<S extends Enum<S> & SoundAsset,
     }
 
     /**
-     * Get the duration of an audio file (wav, mp3, ogg, etc.) in seconds.
+     * Get the duration of an audio file (wav, mp3, ogg, etc.) in seconds. The build-time
+     * {@link AudioManifest} is checked first, then the persistent {@link DurationIndex}, the file
+     * is only probed if neither has an up-to-date entry.
      *
      * @param audioFile The file handle to reference audio file data.
      * @return The track length of the audio file (in seconds).
      */
     public static float getDuration(FileHandle audioFile) {
-        File tempFile = null;
-        try {
+        float duration = getAudioManifest().getDuration(audioFile);
+        if (duration > 0f) {
+            return duration;
+        }
+        return getDurationIndex().get(audioFile);
+    }
+
+    /** The shared build-time manifest, read internally from {@link #AUDIO_MANIFEST_PATH}. */
+    public static synchronized AudioManifest getAudioManifest() {
+        if (audioManifest == null) {
+            audioManifest = new AudioManifest(Gdx.files.internal(AUDIO_MANIFEST_PATH));
+        }
+        return audioManifest;
+    }
+
+    /** The shared duration index, stored locally at {@link #DURATION_INDEX_PATH}. */
+    public static synchronized DurationIndex getDurationIndex() {
+        if (durationIndex == null) {
+            durationIndex = new DurationIndex(Gdx.files.local(DURATION_INDEX_PATH));
+        }
+        return durationIndex;
+    }
+
+    /**
+     * Get the duration of an audio file (wav, mp3, ogg, etc.) in seconds by parsing its metadata,
+     * bypassing the {@link DurationIndex}. OGG, WAV and MP3 headers are read directly through the
+     * {@link AudioHeaderParser}, any other format falls back to jAudioTagger.
+     *
+     * @param audioFile The file handle to reference audio file data.
+     * @return The track length of the audio file (in seconds).
+     */
+    public static float probeDuration(FileHandle audioFile) {
+        float duration = AudioHeaderParser.parseDuration(audioFile);
+        if (duration > 0f) {
+            return duration;
+        }
+        return readTaggerDuration(audioFile);
+    }
+
+    /** Sets jAudioTagger's global options once, before the first probe reads through it. */
+    private static void configureTagger() {
+        synchronized (TAGGER_LOCK) {
+            if (isTaggerConfigured) {
+                return;
+            }
+
             // Ensure Android mode is active if we are on Android
-            boolean isAndroid = Gdx.app.getType() == Application.ApplicationType.Android;
-            if (isAndroid) {
+            if (Gdx.app.getType() == Application.ApplicationType.Android) {
                 TagOptionSingleton.getInstance().setAndroid(true);
             }
+            isTaggerConfigured = true;
+        }
+    }
+
+    private static float readTaggerDuration(FileHandle audioFile) {
+        configureTagger();
+        File tempFile = null;
+        try {
+            boolean isAndroid = Gdx.app.getType() == Application.ApplicationType.Android;
 
-            String extension = "." + audioFile.extension();
-            File parentDir = isAndroid ? Gdx.files.local("").file() : null;
-            tempFile = File.createTempFile("temp_audio", extension, parentDir);
-            tempFile.deleteOnExit();
+            // Files already on the file system can be read in place
+            File file = audioFile.type() != Files.FileType.Classpath ? audioFile.file() : null;
+            if (file == null || !file.isFile()) {
+                String extension = "." + audioFile.extension();
+                File parentDir = isAndroid ? Gdx.files.local("").file() : null;
+                tempFile = File.createTempFile("temp_audio", extension, parentDir);
+                tempFile.deleteOnExit();
 
-            audioFile.copyTo(new FileHandle(tempFile));
+                audioFile.copyTo(new FileHandle(tempFile));
+                file = tempFile;
+            }
 
-            AudioFile audioMetadata = AudioFileIO.read(tempFile);
-            return (float) audioMetadata.getAudioHeader().getPreciseTrackLength();
+            // jAudioTagger isn't documented as thread-safe, probe workers read one at a time
+            synchronized (TAGGER_LOCK) {
+                AudioFile audioMetadata = AudioFileIO.read(file);
+                return (float) audioMetadata.getAudioHeader().getPreciseTrackLength();
+            }
         } catch (Exception e) {
             Gdx.app.error("AudioSystem", "Error reading metadata: " + e.getMessage());
             return 0f;
@@ -578,25 +1877,85 @@ public final class AudioSystem<S extends Enum<S> & SoundAsset,
         }
     }
 
+    /**
+     * Queues every sound and track into the AssetManager and starts probing their durations on a
+     * bounded worker pool (one thread per core), the durations are joined in
+     * {@link #loadFromAssets(AssetManager)}.
+     */
     @Override
     public void loadToAssets(AssetManager assets) {
-        for (S sound : soundClass.getEnumConstants()) {
-            sound.loadToAssets(assets);
-            soundDurationMap.put(sound, sound.duration());
+        this.assets = assets;
+        S[] sounds = soundClass.getEnumConstants();
+        M[] tracks = musicClass.getEnumConstants();
+
+        configureTagger(); // Global options are set before any worker can use them
+        int workers = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(),
+                sounds.length + tracks.length));
+        durationExecutor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "AudioSystem-DurationProbe");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (S sound : sounds) {
+            if (!sound.isBanked()) { // Banked sounds are loaded with their bank
+                sound.loadToAssets(assets);
+            }
+            soundDurationTasks.add(durationExecutor.submit(sound::duration));
         }
-        for (M music : musicClass.getEnumConstants()) {
+        for (M music : tracks) {
             music.loadToAssets(assets);
-            musicDurationMap.put(music, music.duration());
+            musicDurationTasks.add(durationExecutor.submit(music::duration));
         }
+        durationExecutor.shutdown();
     }
 
     @Override
     public void loadFromAssets(AssetManager assets) {
+        joinDurations();
+
         for (S sound : soundClass.getEnumConstants()) {
-            sound.loadFromAssets(assets);
+            if (!sound.isBanked()) {
+                sound.loadFromAssets(assets);
+            }
         }
         for (M music : musicClass.getEnumConstants()) {
             music.loadFromAssets(assets);
         }
     }
+
+    /** Waits for the durations probed since {@link #loadToAssets(AssetManager)}. */
+    private void joinDurations() {
+        if (durationExecutor == null) {
+            return;
+        }
+
+        S[] sounds = soundClass.getEnumConstants();
+        for (int i = 0; i < soundDurationTasks.size; i++) {
+            soundDurationMap.put(sounds[i], joinDuration(soundDurationTasks.get(i)));
+        }
+        M[] tracks = musicClass.getEnumConstants();
+        for (int i = 0; i < musicDurationTasks.size; i++) {
+            musicDurationMap.put(tracks[i], joinDuration(musicDurationTasks.get(i)));
+        }
+
+        soundDurationTasks.clear();
+        musicDurationTasks.clear();
+        durationExecutor = null;
+
+        // Persist any newly probed durations for the next start
+        getDurationIndex().save();
+    }
+
+    private static float joinDuration(Future<Float> task) {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0f;
+        } catch (ExecutionException e) {
+            Gdx.app.error("AudioSystem", "Error probing duration: " + e.getCause());
+            return 0f;
+        }
+    }
 }
@@ -0,0 +1,154 @@
+package com.rivelbop.osmigine.audio;
+
+import com.badlogic.gdx.utils.Array;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * An indexed binary min-heap of the active sound instances, keyed by their next event (the
+ * projected end time, or the next loop boundary for looping instances). Used by the
+ * {@link AudioSystem} so a frame only visits the instances that are actually due.
+ * <p>
+ * Instances re-key themselves when their timeline changes (pitch, resume), leave the heap while
+ * paused, and are queued for release when stopped.
+ */
+final class CompletionScheduler<S extends Enum<S> & SoundAsset> {
+    private SoundInstance<S>[] heap = newHeap(16);
+    private int size;
+
+    // Instances stopped since the last frame (drained by the AudioSystem)
+    final Array<SoundInstance<S>> stoppedInstances = new Array<>(false, 16);
+
+    /** Inserts or re-keys the instance, it is removed if it has no upcoming event. */
+    void schedule(SoundInstance<S> instance) {
+        long time = instance.nextEventTime();
+        if (time == -1L) {
+            remove(instance);
+            return;
+        }
+
+        if (instance.heapIndex == -1) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, size * 2);
+            }
+            instance.scheduledTime = time;
+            instance.heapIndex = size;
+            heap[size++] = instance;
+            siftUp(instance.heapIndex);
+        } else {
+            long oldTime = instance.scheduledTime;
+            instance.scheduledTime = time;
+            if (time < oldTime) {
+                siftUp(instance.heapIndex);
+            } else {
+                siftDown(instance.heapIndex);
+            }
+        }
+    }
+
+    void remove(SoundInstance<S> instance) {
+        int index = instance.heapIndex;
+        if (index == -1) {
+            return;
+        }
+
+        instance.heapIndex = -1;
+        SoundInstance<S> last = heap[--size];
+        heap[size] = null;
+        if (index == size) {
+            return;
+        }
+
+        heap[index] = last;
+        last.heapIndex = index;
+        if (index > 0 && last.scheduledTime < heap[(index - 1) >>> 1].scheduledTime) {
+            siftUp(index);
+        } else {
+            siftDown(index);
+        }
+    }
+
+    /** Removes the instance from the heap and queues it for release. */
+    void stopped(SoundInstance<S> instance) {
+        remove(instance);
+        if (!instance.isStopQueued) {
+            instance.isStopQueued = true;
+            stoppedInstances.add(instance);
+        }
+    }
+
+    /** @return The earliest instance due at the given time (removed from the heap), or null. */
+    @Nullable
+    SoundInstance<S> pollDue(long time) {
+        if (size == 0 || heap[0].scheduledTime > time) {
+            return null;
+        }
+
+        SoundInstance<S> instance = heap[0];
+        remove(instance);
+        return instance;
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            heap[i].heapIndex = -1;
+            heap[i] = null;
+        }
+        size = 0;
+
+        for (SoundInstance<S> instance : stoppedInstances) {
+            instance.isStopQueued = false;
+        }
+        stoppedInstances.clear();
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void siftUp(int index) {
+        SoundInstance<S> instance = heap[index];
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            SoundInstance<S> parent = heap[parentIndex];
+            if (parent.scheduledTime <= instance.scheduledTime) {
+                break;
+            }
+
+            heap[index] = parent;
+            parent.heapIndex = index;
+            index = parentIndex;
+        }
+        heap[index] = instance;
+        instance.heapIndex = index;
+    }
+
+    private void siftDown(int index) {
+        SoundInstance<S> instance = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int childIndex = 2 * index + 1;
+            SoundInstance<S> child = heap[childIndex];
+            int rightIndex = childIndex + 1;
+            if (rightIndex < size && heap[rightIndex].scheduledTime < child.scheduledTime) {
+                childIndex = rightIndex;
+                child = heap[rightIndex];
+            }
+            if (instance.scheduledTime <= child.scheduledTime) {
+                break;
+            }
+
+            heap[index] = child;
+            child.heapIndex = index;
+            index = childIndex;
+        }
+        heap[index] = instance;
+        instance.heapIndex = index;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S extends Enum<S> & SoundAsset> SoundInstance<S>[] newHeap(int size) {
+        return (SoundInstance<S>[]) new SoundInstance[size];
+    }
+}
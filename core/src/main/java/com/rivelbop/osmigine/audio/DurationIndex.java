@@ -0,0 +1,157 @@
+package com.rivelbop.osmigine.audio;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * A persistent duration cache for audio files, stored as a small text file (one entry per line).
+ * <p>
+ * Each entry is keyed by the asset path and stamped with the file size and last modified time, so
+ * warm starts can return the duration without ever touching the audio bytes. Stale or missing
+ * entries are re-probed and written back on the next {@link #save()}.
+ * <p>
+ * Files without a last modified time (e.g. Android internal assets, which report 0) are stamped
+ * with the assets version instead (see {@link #setAssetsVersion(long)}), without one they are
+ * always probed, as an app update could replace them.
+ * <p>
+ * Thread-safe, lookups from multiple threads probe concurrently (the lock is never held while a
+ * file is being probed).
+ */
+public final class DurationIndex {
+    private static final String SEPARATOR = "\t";
+
+    private final FileHandle indexFile;
+    private final ObjectMap<String, Entry> entries = new ObjectMap<>();
+
+    private boolean isLoaded;
+    private boolean isDirty;
+
+    // Stamps files without a last modified time, 0 if unknown
+    private volatile long assetsVersion;
+
+    public DurationIndex(FileHandle indexFile) {
+        this.indexFile = indexFile;
+    }
+
+    /** Reads the index file (if it exists), called automatically on the first lookup. */
+    public synchronized void load() {
+        isLoaded = true;
+        if (!indexFile.exists()) {
+            return;
+        }
+
+        try {
+            for (String line : indexFile.readString("UTF-8").split("\n")) {
+                String[] values = line.split(SEPARATOR);
+                if (values.length != 4) {
+                    continue;
+                }
+
+                Entry entry = new Entry(Long.parseLong(values[1]), Long.parseLong(values[2]),
+                        Float.parseFloat(values[3]));
+                entries.put(values[0], entry);
+            }
+        } catch (Exception e) {
+            // A corrupt index is simply rebuilt
+            Gdx.app.error("DurationIndex", "Error reading index: " + e.getMessage());
+            entries.clear();
+            isDirty = true;
+        }
+    }
+
+    /** Writes the index file, only if an entry was added or replaced since the last load/save. */
+    public synchronized void save() {
+        if (!isDirty) {
+            return;
+        }
+
+        StringBuilder builder = new StringBuilder();
+        for (ObjectMap.Entry<String, Entry> e : entries) {
+            builder.append(e.key).append(SEPARATOR)
+                    .append(e.value.length).append(SEPARATOR)
+                    .append(e.value.lastModified).append(SEPARATOR)
+                    .append(e.value.duration).append('\n');
+        }
+
+        try {
+            indexFile.writeString(builder.toString(), false, "UTF-8");
+            isDirty = false;
+        } catch (Exception e) {
+            Gdx.app.error("DurationIndex", "Error writing index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Get the duration of an audio file, probing (and caching) it if the index entry is missing or
+     * stale.
+     *
+     * @param audioFile The file handle to reference audio file data.
+     * @return The track length of the audio file (in seconds).
+     */
+    public float get(FileHandle audioFile) {
+        String path = audioFile.path();
+        long length = audioFile.length();
+        long lastModified = audioFile.lastModified();
+        if (lastModified == 0L) {
+            lastModified = assetsVersion; // Still 0 if unknown, the file is never cached
+        }
+
+        Entry entry;
+        synchronized (this) {
+            if (!isLoaded) {
+                load();
+            }
+            entry = entries.get(path);
+        }
+        if (lastModified != 0L && entry != null && entry.length == length
+                && entry.lastModified == lastModified) {
+            return entry.duration;
+        }
+
+        float duration = AudioSystem.probeDuration(audioFile);
+        // Don't cache failures (they are retried on the next start) or files that can't be stamped
+        if (duration > 0f && lastModified != 0L) {
+            synchronized (this) {
+                entries.put(path, new Entry(length, lastModified, duration));
+                isDirty = true;
+            }
+        }
+        return duration;
+    }
+
+    /** Removes all entries, the index file is rewritten on the next save. */
+    public synchronized void clear() {
+        entries.clear();
+        isLoaded = true;
+        isDirty = true;
+    }
+
+    /**
+     * Stamps files without a last modified time, e.g. the install/update time of the Android app
+     * (its internal assets report 0). Their entries are re-probed once the version changes.
+     */
+    public void setAssetsVersion(long version) {
+        assetsVersion = version;
+    }
+
+    public long getAssetsVersion() {
+        return assetsVersion;
+    }
+
+    public FileHandle getIndexFile() {
+        return indexFile;
+    }
+
+    private static final class Entry {
+        final long length;
+        final long lastModified;
+        final float duration;
+
+        Entry(long length, long lastModified, float duration) {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.duration = duration;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.rivelbop.osmigine.audio;
+
+import com.badlogic.gdx.audio.Music;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A silent {@link Music} that needs no audio device (benchmarks, CI, load tests). Its playback
+ * position only moves through {@link #update(float)}, so runs are deterministic, and every backend
+ * call is recorded.
+ */
+public final class HeadlessMusic implements Music {
+    private final float duration;
+
+    private float position;
+    private float volume = 1f;
+    private boolean isPlaying;
+    private boolean isLooping;
+    @Nullable
+    private OnCompletionListener listener;
+
+    // Recorded backend calls (since the last reset)
+    private long playCalls;
+    private long pauseCalls;
+    private long stopCalls;
+    private long volumeCalls;
+    private long panCalls;
+    private long positionCalls;
+    private long completions;
+
+    /** @param duration The duration of the track (in seconds). */
+    public HeadlessMusic(float duration) {
+        this.duration = Math.max(0f, duration);
+    }
+
+    /** Advances the playback position, looping or completing the track at its end. */
+    public void update(float delta) {
+        if (!isPlaying) {
+            return;
+        }
+
+        position += delta;
+        if (position < duration) {
+            return;
+        }
+
+        if (isLooping && duration > 0f) {
+            position %= duration;
+            return;
+        }
+
+        position = 0f;
+        isPlaying = false;
+        completions++;
+        if (listener != null) {
+            listener.onCompletion(this);
+        }
+    }
+
+    @Override
+    public void play() {
+        playCalls++;
+        isPlaying = true;
+    }
+
+    @Override
+    public void pause() {
+        pauseCalls++;
+        isPlaying = false;
+    }
+
+    @Override
+    public void stop() {
+        stopCalls++;
+        isPlaying = false;
+        position = 0f;
+    }
+
+    @Override
+    public boolean isPlaying() {
+        return isPlaying;
+    }
+
+    @Override
+    public void setLooping(boolean isLooping) {
+        this.isLooping = isLooping;
+    }
+
+    @Override
+    public boolean isLooping() {
+        return isLooping;
+    }
+
+    @Override
+    public void setVolume(float volume) {
+        volumeCalls++;
+        this.volume = volume;
+    }
+
+    @Override
+    public float getVolume() {
+        return volume;
+    }
+
+    @Override
+    public void setPan(float pan, float volume) {
+        panCalls++;
+        this.volume = volume;
+    }
+
+    @Override
+    public void setPosition(float position) {
+        positionCalls++;
+        this.position = Math.min(Math.max(0f, position), duration);
+    }
+
+    @Override
+    public float getPosition() {
+        return position;
+    }
+
+    @Override
+    public void dispose() {
+        isPlaying = false;
+        listener = null;
+    }
+
+    @Override
+    public void setOnCompletionListener(@Nullable OnCompletionListener listener) {
+        this.listener = listener;
+    }
+
+    public void resetCalls() {
+        playCalls = 0L;
+        pauseCalls = 0L;
+        stopCalls = 0L;
+        volumeCalls = 0L;
+        panCalls = 0L;
+        positionCalls = 0L;
+        completions = 0L;
+    }
+
+    public float getDuration() {
+        return duration;
+    }
+
+    public long getPlayCalls() {
+        return playCalls;
+    }
+
+    public long getPauseCalls() {
+        return pauseCalls;
+    }
+
+    public long getStopCalls() {
+        return stopCalls;
+    }
+
+    public long getVolumeCalls() {
+        return volumeCalls;
+    }
+
+    public long getPanCalls() {
+        return panCalls;
+    }
+
+    public long getPositionCalls() {
+        return positionCalls;
+    }
+
+    /** @return The amount of times the track reached its end (without looping). */
+    public long getCompletions() {
+        return completions;
+    }
+}
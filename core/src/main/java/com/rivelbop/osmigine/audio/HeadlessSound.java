@@ -0,0 +1,158 @@
+package com.rivelbop.osmigine.audio;
+
+import com.badlogic.gdx.audio.Sound;
+
+/**
+ * A silent {@link Sound} that needs no audio device (benchmarks, CI, load tests). Plays return
+ * sequential ids (starting at 0) and every backend call is recorded, so runs are deterministic.
+ */
+public final class HeadlessSound implements Sound {
+    private long nextId;
+
+    // Recorded backend calls (since the last reset)
+    private long playCalls;
+    private long stopCalls;
+    private long pauseCalls;
+    private long resumeCalls;
+    private long loopingCalls;
+    private long pitchCalls;
+    private long volumeCalls;
+    private long panCalls;
+
+    @Override
+    public long play() {
+        return play(1f, 1f, 0f);
+    }
+
+    @Override
+    public long play(float volume) {
+        return play(volume, 1f, 0f);
+    }
+
+    @Override
+    public long play(float volume, float pitch, float pan) {
+        playCalls++;
+        return nextId++;
+    }
+
+    @Override
+    public long loop() {
+        return play(1f, 1f, 0f);
+    }
+
+    @Override
+    public long loop(float volume) {
+        return play(volume, 1f, 0f);
+    }
+
+    @Override
+    public long loop(float volume, float pitch, float pan) {
+        return play(volume, pitch, pan);
+    }
+
+    @Override
+    public void stop() {
+        stopCalls++;
+    }
+
+    @Override
+    public void pause() {
+        pauseCalls++;
+    }
+
+    @Override
+    public void resume() {
+        resumeCalls++;
+    }
+
+    @Override
+    public void dispose() {
+        // Intentionally empty
+    }
+
+    @Override
+    public void stop(long soundId) {
+        stopCalls++;
+    }
+
+    @Override
+    public void pause(long soundId) {
+        pauseCalls++;
+    }
+
+    @Override
+    public void resume(long soundId) {
+        resumeCalls++;
+    }
+
+    @Override
+    public void setLooping(long soundId, boolean looping) {
+        loopingCalls++;
+    }
+
+    @Override
+    public void setPitch(long soundId, float pitch) {
+        pitchCalls++;
+    }
+
+    @Override
+    public void setVolume(long soundId, float volume) {
+        volumeCalls++;
+    }
+
+    @Override
+    public void setPan(long soundId, float pan, float volume) {
+        panCalls++;
+    }
+
+    /** Resets the recorded calls and the ids. */
+    public void reset() {
+        nextId = 0L;
+        resetCalls();
+    }
+
+    /** Resets the recorded calls, ids keep increasing. */
+    public void resetCalls() {
+        playCalls = 0L;
+        stopCalls = 0L;
+        pauseCalls = 0L;
+        resumeCalls = 0L;
+        loopingCalls = 0L;
+        pitchCalls = 0L;
+        volumeCalls = 0L;
+        panCalls = 0L;
+    }
+
+    /** @return The amount of play and loop calls. */
+    public long getPlayCalls() {
+        return playCalls;
+    }
+
+    public long getStopCalls() {
+        return stopCalls;
+    }
+
+    public long getPauseCalls() {
+        return pauseCalls;
+    }
+
+    public long getResumeCalls() {
+        return resumeCalls;
+    }
+
+    public long getLoopingCalls() {
+        return loopingCalls;
+    }
+
+    public long getPitchCalls() {
+        return pitchCalls;
+    }
+
+    public long getVolumeCalls() {
+        return volumeCalls;
+    }
+
+    public long getPanCalls() {
+        return panCalls;
+    }
+}
@@ -0,0 +1,9 @@
+package com.rivelbop.osmigine.audio;
+
+/** Decides how a positional sound is mixed when there are multiple sound listeners. */
+public enum ListenerMix {
+    /** Gain and pan of the nearest listener. */
+    NEAREST,
+    /** Gains of every listener in range are summed (clamped), pans are weighted by gain. */
+    SUM
+}
@@ -9,4 +9,9 @@ public interface MusicAsset extends Asset {
 
     /** @return The stored music. */
     Music get();
+
+    /** @return The name of the {@link AudioBus} this track is routed through. */
+    default String bus() {
+        return AudioSystem.MUSIC_BUS;
+    }
 }
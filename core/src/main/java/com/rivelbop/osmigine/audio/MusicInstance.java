@@ -2,6 +2,7 @@ package com.rivelbop.osmigine.audio;
 
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.math.MathUtils;
+import org.jspecify.annotations.Nullable;
 
 import static com.rivelbop.osmigine.audio.AudioSystem.FULL_PAN_RANGE;
 import static com.rivelbop.osmigine.audio.AudioSystem.FULL_VOLUME_RANGE;
@@ -13,6 +14,7 @@ public final class MusicInstance <M extends Enum<M> & MusicAsset> implements Mus
 
     private float relativeVolume;
     private float masterVolume;
+    private float fadeVolume = FULL_VOLUME_RANGE[1]; // Crossfades
     private float rawVolume;
 
     private float pan;
@@ -23,6 +25,11 @@ public final class MusicInstance <M extends Enum<M> & MusicAsset> implements Mus
     private boolean isFinished;
 
     private boolean isActive;
+    private boolean isPrimed;
+
+    // Mixer bus routing (only while active)
+    @Nullable AudioBus bus;
+    int busArrayIndex = -1;
 
     public MusicInstance(M musicAsset, float relativeVolume, float masterVolume, float pan,
                          boolean loop, float duration) {
@@ -87,7 +94,7 @@ public final class MusicInstance <M extends Enum<M> & MusicAsset> implements Mus
 
         newVolume = MathUtils.clamp(newVolume, FULL_VOLUME_RANGE[0], FULL_VOLUME_RANGE[1]);
         relativeVolume = newVolume;
-        rawVolume = relativeVolume * masterVolume;
+        rawVolume = relativeVolume * masterVolume * fadeVolume;
         if (isActive) {
             music.setVolume(rawVolume);
         }
@@ -100,7 +107,21 @@ public final class MusicInstance <M extends Enum<M> & MusicAsset> implements Mus
 
         newVolume = MathUtils.clamp(newVolume, FULL_VOLUME_RANGE[0], FULL_VOLUME_RANGE[1]);
         masterVolume = newVolume;
-        rawVolume = relativeVolume * masterVolume;
+        rawVolume = relativeVolume * masterVolume * fadeVolume;
+        if (isActive) {
+            music.setVolume(rawVolume);
+        }
+    }
+
+    /** Default to only be accessible by the AudioSystem (crossfades) */
+    void setFadeVolume(float newVolume) {
+        newVolume = MathUtils.clamp(newVolume, FULL_VOLUME_RANGE[0], FULL_VOLUME_RANGE[1]);
+        if (isFinished || fadeVolume == newVolume) {
+            return;
+        }
+
+        fadeVolume = newVolume;
+        rawVolume = relativeVolume * masterVolume * fadeVolume;
         if (isActive) {
             music.setVolume(rawVolume);
         }
@@ -140,6 +161,31 @@ public final class MusicInstance <M extends Enum<M> & MusicAsset> implements Mus
             this.position = music.getPosition();
         } else {
             this.position = position;
+            unprime(); // The stream has to seek when activated
+        }
+    }
+
+    /**
+     * Default to only be accessible by the AudioSystem. Opens and pre-buffers the stream (silently
+     * playing and pausing it) ahead of activation, so activating it doesn't stall on stream setup.
+     */
+    void prime() {
+        if (isPrimed || isActive || isFinished) {
+            return;
+        }
+
+        isPrimed = true;
+        music.setVolume(FULL_VOLUME_RANGE[0]);
+        music.setPosition(position);
+        music.play();
+        music.pause();
+    }
+
+    /** Default to only be accessible by the AudioSystem, releases a primed (inactive) stream. */
+    void unprime() {
+        if (isPrimed && !isActive) {
+            isPrimed = false;
+            music.stop();
         }
     }
 
@@ -150,11 +196,16 @@ public final class MusicInstance <M extends Enum<M> & MusicAsset> implements Mus
 
         if (wasChanged && isActive) {
             if (isFinished) {
+                isPrimed = false;
                 music.stop();
                 return;
             }
 
-            music.setPosition(position);
+            // A primed stream is already buffered at the position
+            if (!isPrimed) {
+                music.setPosition(position);
+            }
+            isPrimed = false;
             music.setPan(pan, rawVolume);
             music.setLooping(isLooping);
             music.setOnCompletionListener(this);
@@ -182,6 +233,10 @@ public final class MusicInstance <M extends Enum<M> & MusicAsset> implements Mus
         return masterVolume;
     }
 
+    public float getFadeVolume() {
+        return fadeVolume;
+    }
+
     public float getRawVolume() {
         return rawVolume;
     }
@@ -221,4 +276,9 @@ public final class MusicInstance <M extends Enum<M> & MusicAsset> implements Mus
     public boolean isActive() {
         return isActive;
     }
+
+    /** @return Whether the stream has been opened and buffered ahead of activation. */
+    public boolean isPrimed() {
+        return isPrimed;
+    }
 }
@@ -0,0 +1,185 @@
+package com.rivelbop.osmigine.audio;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.SoundLoader;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.zip.CRC32;
+
+/**
+ * A disk cache of decoded sounds, so warm starts skip decoding short compressed sounds (e.g. the
+ * Vorbis decode of OGG sound effects). Sounds at most {@link #getMaxSourceBytes()} large are
+ * decoded once by the {@link PcmDecoder} and stored as WAV in the cache directory, keyed by the
+ * SHA-256 of their path and the CRC32 of their content (an edited sound replaces its previous
+ * entry). The backend then loads the WAV, which only needs its header parsed.
+ * <p>
+ * The default directory is local, next to the AudioSystem's duration index (.osmigine/ is left out
+ * of the asset list and the packaged resources).
+ * <p>
+ * Installed on an AssetManager (see {@link #install(AssetManager)}), every {@link Sound} it loads
+ * goes through the cache, on the AssetManager's loading thread.
+ */
+public final class PcmCache {
+    public static final long DEFAULT_MAX_SOURCE_BYTES = 256L * 1024L;
+    public static final String DEFAULT_DIRECTORY = ".osmigine/pcm/";
+
+    private static final int WAV_HEADER_SIZE = 44;
+
+    private final PcmDecoder decoder;
+    private final FileHandle directory;
+    private final long maxSourceBytes;
+
+    // Only written by the AssetManager's loading thread
+    private volatile int hits;
+    private volatile int misses;
+
+    /** Caches sounds up to {@link #DEFAULT_MAX_SOURCE_BYTES} in the local cache directory. */
+    public PcmCache(PcmDecoder decoder) {
+        this(decoder, Gdx.files.local(DEFAULT_DIRECTORY), DEFAULT_MAX_SOURCE_BYTES);
+    }
+
+    public PcmCache(PcmDecoder decoder, FileHandle directory, long maxSourceBytes) {
+        this.decoder = decoder;
+        this.directory = directory;
+        this.maxSourceBytes = maxSourceBytes;
+    }
+
+    /** Sounds loaded by the AssetManager from now on go through the cache. */
+    public void install(AssetManager assets) {
+        assets.setLoader(Sound.class, new CachedSoundLoader(assets.getFileHandleResolver(), this));
+    }
+
+    /**
+     * @return The cached WAV of the source (decoded now if it isn't cached yet), or the source
+     * itself if it's too large, already a WAV, or can't be decoded.
+     */
+    public FileHandle resolve(FileHandle source) {
+        if (source.extension().toLowerCase(Locale.ROOT).equals("wav") ||
+                source.length() > maxSourceBytes) {
+            return source;
+        }
+
+        try {
+            byte[] bytes = source.readBytes();
+            CRC32 crc = new CRC32();
+            crc.update(bytes, 0, bytes.length);
+            String sourceKey = toSourceKey(source);
+            FileHandle cached = directory.child(sourceKey + '-' +
+                    Long.toHexString(crc.getValue()) + '-' + bytes.length + ".wav");
+            if (cached.exists()) {
+                hits++;
+                return cached;
+            }
+
+            PcmDecoder.Pcm pcm = decoder.decode(source);
+            if (pcm == null) {
+                return source;
+            }
+            prune(sourceKey); // The entry of the source's previous content is stale
+
+            // Written next to the entry then moved, so an interrupted write is never loaded
+            FileHandle temp = directory.child(cached.name() + ".tmp");
+            temp.writeBytes(toWav(pcm), false);
+            temp.moveTo(cached);
+            misses++;
+            return cached;
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("PcmCache", "Error caching " + source.path() + ": " + e.getMessage());
+            return source;
+        }
+    }
+
+    /** Deletes the entries (and interrupted writes) of the source key (the name up to its '-'). */
+    private void prune(String sourceKey) {
+        for (FileHandle entry : directory.list((dir, name) ->
+                name.indexOf('-') == sourceKey.length() && name.startsWith(sourceKey))) {
+            entry.delete();
+        }
+    }
+
+    /** @return The SHA-256 of the source's path (hex), paths never share entries. */
+    private static String toSourceKey(FileHandle source) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256")
+                    .digest(source.path().getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform (and Android) is required to support SHA-256
+            throw new GdxRuntimeException(e);
+        }
+
+        StringBuilder key = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            key.append(Character.forDigit((b >> 4) & 0xF, 16))
+                    .append(Character.forDigit(b & 0xF, 16));
+        }
+        return key.toString();
+    }
+
+    private static byte[] toWav(PcmDecoder.Pcm pcm) {
+        int dataSize = pcm.samples.length;
+        int blockAlign = pcm.channels * 2;
+        ByteBuffer wav = ByteBuffer.allocate(WAV_HEADER_SIZE + dataSize)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        wav.put((byte) 'R').put((byte) 'I').put((byte) 'F').put((byte) 'F');
+        wav.putInt(WAV_HEADER_SIZE - 8 + dataSize);
+        wav.put((byte) 'W').put((byte) 'A').put((byte) 'V').put((byte) 'E');
+        wav.put((byte) 'f').put((byte) 'm').put((byte) 't').put((byte) ' ');
+        wav.putInt(16);                           // fmt chunk size
+        wav.putShort((short) 1);                  // PCM
+        wav.putShort((short) pcm.channels);
+        wav.putInt(pcm.sampleRate);
+        wav.putInt(pcm.sampleRate * blockAlign);  // Byte rate
+        wav.putShort((short) blockAlign);
+        wav.putShort((short) 16);                 // Bits per sample
+        wav.put((byte) 'd').put((byte) 'a').put((byte) 't').put((byte) 'a');
+        wav.putInt(dataSize);
+        wav.put(pcm.samples);
+        return wav.array();
+    }
+
+    /** Deletes every cached sound. */
+    public void clear() {
+        directory.deleteDirectory();
+    }
+
+    public long getMaxSourceBytes() {
+        return maxSourceBytes;
+    }
+
+    /** @return The amount of sounds loaded from the cache. */
+    public int getHits() {
+        return hits;
+    }
+
+    /** @return The amount of sounds decoded into the cache. */
+    public int getMisses() {
+        return misses;
+    }
+
+    /** Loads sounds through the cache. */
+    private static final class CachedSoundLoader extends SoundLoader {
+        private final PcmCache cache;
+
+        CachedSoundLoader(FileHandleResolver resolver, PcmCache cache) {
+            super(resolver);
+            this.cache = cache;
+        }
+
+        @Override
+        public void loadAsync(AssetManager manager, String fileName, FileHandle file,
+                              SoundParameter parameter) {
+            super.loadAsync(manager, fileName, cache.resolve(file), parameter);
+        }
+    }
+}
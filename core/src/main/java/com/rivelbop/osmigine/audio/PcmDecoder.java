@@ -0,0 +1,33 @@
+package com.rivelbop.osmigine.audio;
+
+import com.badlogic.gdx.files.FileHandle;
+import org.jspecify.annotations.Nullable;
+
+/** Decodes compressed sounds to PCM for the {@link PcmCache}, the decoders are backend specific. */
+public interface PcmDecoder {
+    /** @return The decoded file, null if the file can't be decoded (it's loaded as is). */
+    @Nullable
+    Pcm decode(FileHandle file);
+
+    /** Decodes nothing, so every sound is loaded (and decoded) by the backend as usual. */
+    final class Default implements PcmDecoder {
+        @Nullable
+        @Override
+        public Pcm decode(FileHandle file) {
+            return null;
+        }
+    }
+
+    /** Decoded 16-bit little-endian PCM, interleaved by channel. */
+    final class Pcm {
+        public final byte[] samples;
+        public final int channels;
+        public final int sampleRate;
+
+        public Pcm(byte[] samples, int channels, int sampleRate) {
+            this.samples = samples;
+            this.channels = channels;
+            this.sampleRate = sampleRate;
+        }
+    }
+}
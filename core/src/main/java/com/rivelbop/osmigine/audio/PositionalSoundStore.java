@@ -0,0 +1,162 @@
+package com.rivelbop.osmigine.audio;
+
+import com.badlogic.gdx.math.Vector2;
+
+import java.util.Arrays;
+
+/**
+ * A structure-of-arrays store of positional sound state, used by the {@link AudioSystem} when
+ * positional batching is enabled.
+ * <p>
+ * Positions, gains and pans are kept in parallel arrays indexed by each instance's
+ * positionArrayIndex (mirroring the unordered removal of the active positional array), so gain and
+ * pan are computed for every emitter in one tight, branch-free pass. The last pushed gain and pan
+ * are also kept so only changed values are pushed to the backend.
+ */
+final class PositionalSoundStore<S extends Enum<S> & SoundAsset> {
+    float[] x = new float[16];
+    float[] y = new float[16];
+    float[] distance2 = new float[16];
+    float[] gain = new float[16];
+    float[] pan = new float[16];
+    float[] pushedGain = new float[16];
+    float[] pushedPan = new float[16];
+    SoundInstance<S>[] instances = newInstanceArray(16);
+    int size;
+
+    /** Set when an emitter or the listener moved, cleared once the batch has been pushed. */
+    boolean isDirty;
+
+    /** Appends the instance at index {@link #size} (must match its positionArrayIndex). */
+    void add(SoundInstance<S> instance) {
+        if (size == x.length) {
+            resize(size * 2);
+        }
+
+        Vector2 position = instance.getPosition();
+        x[size] = position != null ? position.x : 0f;
+        y[size] = position != null ? position.y : 0f;
+        pushedGain[size] = instance.getPositionalVolume();
+        pushedPan[size] = instance.getPan();
+        instances[size] = instance;
+        size++;
+
+        instance.positionalStore = this;
+        isDirty = true;
+    }
+
+    /** Unordered removal, the last element is moved into the index (like Array#removeIndex). */
+    void removeIndex(int index) {
+        int last = --size;
+        instances[index].positionalStore = null;
+
+        x[index] = x[last];
+        y[index] = y[last];
+        distance2[index] = distance2[last];
+        gain[index] = gain[last];
+        pan[index] = pan[last];
+        pushedGain[index] = pushedGain[last];
+        pushedPan[index] = pushedPan[last];
+        instances[index] = instances[last];
+        instances[last] = null;
+    }
+
+    void setPosition(int index, float newX, float newY) {
+        x[index] = newX;
+        y[index] = newY;
+        isDirty = true;
+    }
+
+    /**
+     * Computes the distance, gain and pan of every emitter, all in one pass over the arrays per
+     * listener (no object loads, sqrt or division, the gain is a table lookup). The distance is
+     * the one to the nearest listener.
+     */
+    void compute(Vector2[] listeners, int listenerCount, ListenerMix mix,
+                 AttenuationTable attenuation) {
+        float[] x = this.x, y = this.y, distance2 = this.distance2, gain = this.gain,
+                pan = this.pan;
+        float listenerX = listeners[0].x;
+        float listenerY = listeners[0].y;
+        for (int i = 0; i < size; i++) {
+            float dx = x[i] - listenerX;
+            float dy = y[i] - listenerY;
+            float d2 = dx * dx + dy * dy;
+            distance2[i] = d2;
+            gain[i] = attenuation.gain(d2);
+            pan[i] = attenuation.pan(dx);
+        }
+
+        if (listenerCount == 1) {
+            return;
+        }
+        if (mix == ListenerMix.NEAREST) {
+            for (int l = 1; l < listenerCount; l++) {
+                listenerX = listeners[l].x;
+                listenerY = listeners[l].y;
+                for (int i = 0; i < size; i++) {
+                    float dx = x[i] - listenerX;
+                    float dy = y[i] - listenerY;
+                    float d2 = dx * dx + dy * dy;
+                    if (d2 < distance2[i]) {
+                        distance2[i] = d2;
+                        gain[i] = attenuation.gain(d2);
+                        pan[i] = attenuation.pan(dx);
+                    }
+                }
+            }
+            return;
+        }
+
+        // Summed, pans are accumulated weighted by gain (out of range listeners weigh nothing)
+        float hearRange2 = attenuation.hearRange2;
+        for (int i = 0; i < size; i++) {
+            float g = distance2[i] <= hearRange2 ? gain[i] : 0f;
+            gain[i] = g;
+            pan[i] *= g;
+        }
+        for (int l = 1; l < listenerCount; l++) {
+            listenerX = listeners[l].x;
+            listenerY = listeners[l].y;
+            for (int i = 0; i < size; i++) {
+                float dx = x[i] - listenerX;
+                float dy = y[i] - listenerY;
+                float d2 = dx * dx + dy * dy;
+                float g = d2 <= hearRange2 ? attenuation.gain(d2) : 0f;
+                distance2[i] = Math.min(distance2[i], d2);
+                gain[i] += g;
+                pan[i] += attenuation.pan(dx) * g;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            float g = gain[i];
+            pan[i] = g > 0f ? pan[i] / g : 0f;
+            gain[i] = Math.min(g, 1f);
+        }
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            instances[i].positionalStore = null;
+            instances[i] = null;
+        }
+        size = 0;
+        isDirty = false;
+    }
+
+    private void resize(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        distance2 = Arrays.copyOf(distance2, capacity);
+        gain = Arrays.copyOf(gain, capacity);
+        pan = Arrays.copyOf(pan, capacity);
+        pushedGain = Arrays.copyOf(pushedGain, capacity);
+        pushedPan = Arrays.copyOf(pushedPan, capacity);
+        instances = Arrays.copyOf(instances, capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S extends Enum<S> & SoundAsset> SoundInstance<S>[] newInstanceArray(int size) {
+        return (SoundInstance<S>[]) new SoundInstance[size];
+    }
+}
@@ -0,0 +1,76 @@
+package com.rivelbop.osmigine.audio;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A handle to a sound play queued from any thread (see {@link AudioSystem#queuePlaySound}), it
+ * resolves once the AudioSystem applies the play during postRender.
+ * <p>
+ * The stop and set-param methods are safe to call from any thread (even before the play is
+ * applied), they are queued and applied in order.
+ */
+public final class QueuedSound<S extends Enum<S> & SoundAsset> {
+    public final S soundAsset;
+
+    private final AudioSystem<S, ?> audioSystem;
+    private volatile boolean isDone;
+
+    // Only written and read on the render thread
+    @Nullable
+    private SoundInstance<S> instance;
+    private long handle = AudioSystem.INVALID_SOUND_HANDLE;
+
+    QueuedSound(AudioSystem<S, ?> audioSystem, S soundAsset) {
+        this.audioSystem = audioSystem;
+        this.soundAsset = soundAsset;
+    }
+
+    /** Called by the AudioSystem once the play has been applied. */
+    void resolve(SoundInstance<S> playedInstance) {
+        instance = playedInstance;
+        handle = playedInstance.handle();
+        isDone = true;
+    }
+
+    /** @return Whether the play has been applied (safe to call from any thread). */
+    public boolean isDone() {
+        return isDone;
+    }
+
+    /**
+     * RENDER THREAD ONLY. Pooled instances are resolved through their handle, so a recycled
+     * instance is never returned.
+     *
+     * @return The played instance, the nullSoundInstance if it failed to play or has finished
+     * (and was recycled), or null if the play hasn't been applied yet.
+     */
+    @Nullable
+    public SoundInstance<S> getInstance() {
+        if (instance == null || instance.slot == -1) {
+            return instance;
+        }
+        return audioSystem.getSoundInstance(handle);
+    }
+
+    public void stop() {
+        audioSystem.enqueue(new AudioCommand<>(AudioCommand.Type.STOP, this));
+    }
+
+    public void setVolume(float volume) {
+        AudioCommand<S> command = new AudioCommand<>(AudioCommand.Type.SET_VOLUME, this);
+        command.volume = volume;
+        audioSystem.enqueue(command);
+    }
+
+    public void setPitch(float pitch) {
+        AudioCommand<S> command = new AudioCommand<>(AudioCommand.Type.SET_PITCH, this);
+        command.pitch = pitch;
+        audioSystem.enqueue(command);
+    }
+
+    public void setPan(float pan) {
+        AudioCommand<S> command = new AudioCommand<>(AudioCommand.Type.SET_PAN, this);
+        command.pan = pan;
+        audioSystem.enqueue(command);
+    }
+}
@@ -1,7 +1,9 @@
 package com.rivelbop.osmigine.audio;
 
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Sound;
 import com.rivelbop.osmigine.assets.Asset;
+import org.jspecify.annotations.Nullable;
 
 public interface SoundAsset extends Asset {
     /** @return The duration of the sound effect. */
@@ -9,4 +11,49 @@ public interface SoundAsset extends Asset {
 
     /** @return The stored sound. */
     Sound get();
+
+    /** @return The max amount of voices this sound can play at once (0 for no limit). */
+    default int maxVoices() {
+        return 0;
+    }
+
+    /** @return The priority of this sound's voices, lower priority voices are stolen first. */
+    default int priority() {
+        return 0;
+    }
+
+    /**
+     * @return The minimum time (in seconds) between two voices of this sound, only used while the
+     * AudioSystem is coalescing sounds (0 for no limit).
+     */
+    default float minRetriggerInterval() {
+        return 0f;
+    }
+
+    /**
+     * @return Whether this sound is only loaded through an {@link AudioBank}, instead of with
+     * every other sound at startup (requires {@link #path()}).
+     */
+    default boolean isBanked() {
+        return false;
+    }
+
+    /** @return The AssetManager path of this sound, used to track the loading of banked sounds. */
+    @Nullable
+    default String path() {
+        return null;
+    }
+
+    /** CALL WHEN A BANKED SOUND IS EVICTED, the stored sound should no longer be used. */
+    default void unloadFromAssets(AssetManager assets) {
+        String path = path();
+        if (path != null && assets.contains(path)) {
+            assets.unload(path);
+        }
+    }
+
+    /** @return The name of the {@link AudioBus} this sound is routed through. */
+    default String bus() {
+        return AudioSystem.SFX_BUS;
+    }
 }
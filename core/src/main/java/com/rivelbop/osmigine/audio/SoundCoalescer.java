@@ -0,0 +1,97 @@
+package com.rivelbop.osmigine.audio;
+
+import org.jspecify.annotations.Nullable;
+
+import static com.rivelbop.osmigine.audio.AudioSystem.FULL_VOLUME_RANGE;
+
+/**
+ * Tracks the last voice started by each sound (indexed by ordinal), used by the
+ * {@link AudioSystem} to merge identical plays within the coalesce window into that voice and to
+ * throttle plays within a sound's {@link SoundAsset#minRetriggerInterval()}.
+ */
+final class SoundCoalescer<S extends Enum<S> & SoundAsset> {
+    private final SoundInstance<S>[] instances;
+    private final long[] sequences;
+    private final long[] startTimes;
+    private final float[] gains2; // Sum of the squared volumes of every merged play
+
+    private long windowNanos;
+    private long mergedPlays;
+    private long throttledPlays;
+
+    @SuppressWarnings("unchecked")
+    SoundCoalescer(int soundCount, float window) {
+        instances = (SoundInstance<S>[]) new SoundInstance[soundCount];
+        sequences = new long[soundCount];
+        startTimes = new long[soundCount];
+        gains2 = new float[soundCount];
+        setWindow(window);
+    }
+
+    /**
+     * Merges the play into the sound's last voice if it started within the window, the voice's
+     * volume becomes the energy sum of every merged play (sqrt of the summed squared volumes).
+     *
+     * @return The merged instance, null if there is no voice to merge into.
+     */
+    @Nullable
+    SoundInstance<S> merge(S sound, float volume, long now) {
+        int i = sound.ordinal();
+        SoundInstance<S> instance = instances[i];
+        if (instance == null || now - startTimes[i] > windowNanos || !isLastVoice(instance, i)) {
+            return null;
+        }
+
+        gains2[i] += volume * volume;
+        instance.setRelativeVolume(Math.min((float) Math.sqrt(gains2[i]), FULL_VOLUME_RANGE[1]));
+        mergedPlays++;
+        return instance;
+    }
+
+    /** @return Whether the sound's last voice started within its min retrigger interval. */
+    boolean throttle(S sound, long now) {
+        int i = sound.ordinal();
+        long intervalNanos = (long) (sound.minRetriggerInterval() * 1000000000L);
+        if (intervalNanos > 0L && instances[i] != null && now - startTimes[i] < intervalNanos) {
+            throttledPlays++;
+            return true;
+        }
+        return false;
+    }
+
+    /** Records a newly started voice. */
+    void record(SoundInstance<S> instance, float volume, long now) {
+        int i = instance.getSoundAsset().ordinal();
+        instances[i] = instance;
+        sequences[i] = instance.sequence;
+        startTimes[i] = now;
+        gains2[i] = volume * volume;
+    }
+
+    /** Pooled instances are recycled, so the play sequence is checked as well. */
+    private boolean isLastVoice(SoundInstance<S> instance, int i) {
+        return instance.sequence == sequences[i] && instance.activeArrayIndex != -1 &&
+                !instance.isFinished();
+    }
+
+    void setWindow(float window) {
+        windowNanos = (long) (Math.max(0f, window) * 1000000000L);
+    }
+
+    float getWindow() {
+        return windowNanos / 1000000000f;
+    }
+
+    long getMergedPlays() {
+        return mergedPlays;
+    }
+
+    long getThrottledPlays() {
+        return throttledPlays;
+    }
+
+    void resetMetrics() {
+        mergedPlays = 0;
+        throttledPlays = 0;
+    }
+}
@@ -0,0 +1,138 @@
+package com.rivelbop.osmigine.audio;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+
+import java.util.function.Consumer;
+
+/**
+ * A uniform-grid spatial index of positional sound instances, used by the {@link AudioSystem} so
+ * listener moves only visit instances in the cells overlapping the hear range.
+ * <p>
+ * Each instance stores its cell key and index in the cell (unordered, O(1) removal). Emptied cells
+ * are removed from the grid (their arrays are kept in a small pool for moving instances).
+ */
+final class SoundGrid<S extends Enum<S> & SoundAsset> {
+    /** Prevents a zero (or tiny) hear range from creating an absurd amount of cells. */
+    static final float MIN_CELL_SIZE = 1f;
+    private static final int MAX_FREE_CELLS = 32;
+
+    private final LongMap<Array<SoundInstance<S>>> cells = new LongMap<>();
+    private final Array<Array<SoundInstance<S>>> freeCells = new Array<>(false, MAX_FREE_CELLS);
+    private float cellSize = MIN_CELL_SIZE;
+    private float inverseCellSize = 1f / MIN_CELL_SIZE;
+
+    /** Changes the cell size and re-inserts every instance. */
+    void setCellSize(float newCellSize, Array<SoundInstance<S>> instances) {
+        newCellSize = Math.max(newCellSize, MIN_CELL_SIZE);
+        if (cellSize == newCellSize) {
+            return;
+        }
+
+        cellSize = newCellSize;
+        inverseCellSize = 1f / newCellSize;
+        rebuild(instances);
+    }
+
+    /** Clears the grid and inserts every instance. */
+    void rebuild(Array<SoundInstance<S>> instances) {
+        clear();
+        for (SoundInstance<S> instance : instances) {
+            insert(instance);
+        }
+    }
+
+    void insert(SoundInstance<S> instance) {
+        Vector2 position = instance.getPosition();
+        if (position == null) {
+            return;
+        }
+
+        long key = key(cell(position.x), cell(position.y));
+        Array<SoundInstance<S>> cell = cells.get(key);
+        if (cell == null) {
+            cell = freeCells.isEmpty() ? new Array<>(false, 8) : freeCells.pop();
+            cells.put(key, cell);
+        }
+
+        instance.cellKey = key;
+        instance.cellArrayIndex = cell.size;
+        cell.add(instance);
+    }
+
+    void remove(SoundInstance<S> instance) {
+        if (instance.cellArrayIndex == -1) {
+            return;
+        }
+
+        Array<SoundInstance<S>> cell = cells.get(instance.cellKey);
+        cell.peek().cellArrayIndex = instance.cellArrayIndex;
+        cell.removeIndex(instance.cellArrayIndex);
+        instance.cellArrayIndex = -1;
+
+        if (cell.isEmpty()) {
+            cells.remove(instance.cellKey);
+            if (freeCells.size < MAX_FREE_CELLS) {
+                freeCells.add(cell);
+            }
+        }
+    }
+
+    /** Moves the instance into the cell of its current position (if it changed cells). */
+    void move(SoundInstance<S> instance) {
+        Vector2 position = instance.getPosition();
+        if (position == null) {
+            return;
+        }
+
+        if (instance.cellArrayIndex == -1 ||
+                instance.cellKey != key(cell(position.x), cell(position.y))) {
+            remove(instance);
+            insert(instance);
+        }
+    }
+
+    /** Visits every instance in the cells overlapping the circle (which may be outside it). */
+    void forEachNear(float x, float y, float radius, Consumer<SoundInstance<S>> visitor) {
+        int minX = cell(x - radius);
+        int maxX = cell(x + radius);
+        int minY = cell(y - radius);
+        int maxY = cell(y + radius);
+
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                Array<SoundInstance<S>> cell = cells.get(key(cx, cy));
+                if (cell == null) {
+                    continue;
+                }
+
+                // Index loop, the visitor must not remove instances from the grid
+                for (int i = 0; i < cell.size; i++) {
+                    visitor.accept(cell.get(i));
+                }
+            }
+        }
+    }
+
+    void clear() {
+        for (Array<SoundInstance<S>> cell : cells.values()) {
+            for (SoundInstance<S> instance : cell) {
+                instance.cellArrayIndex = -1;
+            }
+        }
+        cells.clear();
+    }
+
+    float getCellSize() {
+        return cellSize;
+    }
+
+    private int cell(float coordinate) {
+        return (int) Math.floor(coordinate * inverseCellSize);
+    }
+
+    private static long key(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+}
@@ -3,22 +3,57 @@ package com.rivelbop.osmigine.audio;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.TimeUtils;
 import org.jspecify.annotations.Nullable;
 
 import static com.rivelbop.osmigine.audio.AudioSystem.*;
 
-public final class SoundInstance <S extends Enum<S> & SoundAsset> {
-    public final S soundAsset;
-    public final Sound sound;
-    public final float duration;
-    public final long id;
+public final class SoundInstance <S extends Enum<S> & SoundAsset> implements Pool.Poolable {
+    // DO NOT ALTER, GETTER ONLY (only reassigned when a pooled instance is recycled by the
+    // AudioSystem, see init and reset, and id when a virtual voice is re-acquired)
+    public S soundAsset;
+    public Sound sound;
+    public float duration;
+    public long id;
 
     // default - only really needed for the AudioSystem
+    int activeArrayIndex = -1;
     int positionArrayIndex = -1;
     boolean positionUpdated;
+    long sequence; // Play order, used for voice stealing
 
-    private final long durationNanos;
+    // Virtual voices (positional instances that released their backend voice while out of range)
+    boolean isVirtual;
+    boolean isInRange = true;
+    boolean hasLooped;
+    boolean isDevirtualizeQueued; // Re-acquires its voice once the positional pass ends
+
+    // Spatial grid cell and hear range tracking
+    long cellKey;
+    int cellArrayIndex = -1;
+    int audibleArrayIndex = -1;
+    int updateStamp;
+    @Nullable PositionalSoundStore<S> positionalStore; // Only set while batching positional sounds
+
+    // Completion scheduling (only set while active in an AudioSystem)
+    @Nullable CompletionScheduler<S> scheduler;
+    int heapIndex = -1;
+    long scheduledTime;
+    boolean isStopQueued;
+
+    // Only set while the AudioSystem is collecting metrics
+    @Nullable AudioMetrics metrics;
+
+    // Mixer bus routing
+    @Nullable AudioBus bus;
+    int busArrayIndex = -1;
+
+    // Pooling (slot is -1 for instances that aren't owned by an AudioSystem pool)
+    int slot = -1;
+    int generation;
+
+    private long durationNanos;
 
     private float relativeVolume;
     private float masterVolume;
@@ -34,16 +69,30 @@ public final class SoundInstance <S extends Enum<S> & SoundAsset> {
     private boolean isPaused;
     private boolean isFinished;
 
-    private Vector2 position;
+    private final Vector2 position = new Vector2();
+    private boolean hasPosition;
 
     public SoundInstance(S soundAsset, float relativeVolume, float masterVolume, float pitch,
                          float pan, boolean loop, long id, float duration) {
+        init(soundAsset, relativeVolume, masterVolume, pitch, pan, loop, id, duration);
+    }
+
+    /** Used by the AudioSystem's pool, call init() before use. */
+    SoundInstance() {
+        isFinished = true;
+        sound = NullSound.INSTANCE;
+        id = AudioSystem.INVALID_SOUND_ID;
+    }
+
+    SoundInstance<S> init(S soundAsset, float relativeVolume, float masterVolume, float pitch,
+                          float pan, boolean loop, long id, float duration) {
         this.soundAsset = soundAsset;
         this.sound = soundAsset != null ? soundAsset.get() : NullSound.INSTANCE;
         this.id = id;
 
         this.relativeVolume = relativeVolume;
         this.masterVolume = masterVolume;
+        this.positionalVolume = 1f;
         this.rawVolume = relativeVolume * masterVolume * positionalVolume;
 
         this.pitch = pitch;
@@ -54,25 +103,138 @@ public final class SoundInstance <S extends Enum<S> & SoundAsset> {
         this.durationNanos = (long) (duration * 1000000000L);
         this.startTime = TimeUtils.nanoTime();
 
-        if (sound == NullSound.INSTANCE || id == AudioSystem.INVALID_SOUND_ID) {
+        this.pauseTime = 0L;
+        this.isPaused = false;
+        this.isVirtual = false;
+        this.isInRange = true;
+        this.hasLooped = false;
+        this.isFinished = (sound == NullSound.INSTANCE || id == AudioSystem.INVALID_SOUND_ID);
+        return this;
+    }
+
+    /** Called when a pooled instance is recycled, invalidating any handle to it. */
+    @Override
+    public void reset() {
+        generation++;
+
+        soundAsset = null;
+        sound = NullSound.INSTANCE;
+        id = AudioSystem.INVALID_SOUND_ID;
+        isFinished = true;
+
+        activeArrayIndex = -1;
+        positionArrayIndex = -1;
+        positionUpdated = false;
+        hasPosition = false;
+        cellArrayIndex = -1;
+        audibleArrayIndex = -1;
+        positionalStore = null;
+        bus = null;
+        busArrayIndex = -1;
+        scheduler = null;
+        heapIndex = -1;
+        metrics = null;
+        isStopQueued = false;
+
+        isVirtual = false;
+        isInRange = true;
+        hasLooped = false;
+        isDevirtualizeQueued = false;
+    }
+
+    /** Starts this instance without a backend voice (the id must be invalid). */
+    void startVirtual() {
+        isVirtual = true;
+        isFinished = (sound == NullSound.INSTANCE);
+    }
+
+    /** Releases the backend voice, the playhead keeps advancing. */
+    void virtualize() {
+        if (isVirtual || isFinished) {
+            return;
+        }
+
+        sound.stop(id);
+        id = AudioSystem.INVALID_SOUND_ID;
+        isVirtual = true;
+    }
+
+    /**
+     * Re-acquires a backend voice, restarting the sound from its start (libGDX sounds can't seek,
+     * so the playhead is moved to the voice instead), the AudioSystem reschedules it. The voice
+     * only loops if this instance still does (setLooping may have been called while virtual).
+     */
+    void devirtualize() {
+        if (!isVirtual || isFinished) {
+            return;
+        }
+
+        id = isLooping ? sound.loop(rawVolume, pitch, pan) : sound.play(rawVolume, pitch, pan);
+        isVirtual = false;
+        startTime = TimeUtils.nanoTime();
+        if (id == AudioSystem.INVALID_SOUND_ID) {
             isFinished = true;
+            if (scheduler != null) {
+                scheduler.stopped(this);
+            }
         }
     }
 
+    /**
+     * A generation-checked handle that can be resolved with {@link AudioSystem#getSoundInstance}.
+     * Unlike the instance itself, a handle can safely be kept after the sound finishes.
+     *
+     * @return The handle, {@link AudioSystem#INVALID_SOUND_HANDLE} if this instance isn't pooled.
+     */
+    public long handle() {
+        if (slot == -1) {
+            return AudioSystem.INVALID_SOUND_HANDLE;
+        }
+        return ((long) slot << 32) | (generation & 0xFFFFFFFFL);
+    }
+
+    /** Called automatically by the AudioSystem (only when due), no need to call manually. */
     public void update() {
-        if (isPaused || isFinished) {
-            return;
+        advance(TimeUtils.nanoTime());
+    }
+
+    /**
+     * Advances the playhead to the given time, wrapping looping instances (setting hasLooped).
+     *
+     * @return Whether this instance is still playing.
+     */
+    boolean advance(long time) {
+        if (isFinished) {
+            return false;
+        }
+        if (isPaused) {
+            return true;
         }
 
-        long pitchedDurationNanos = (long) (durationNanos / pitch);
-        long elapsed = TimeUtils.timeSinceNanos(startTime);
+        long pitchedDurationNanos = getPitchedDurationNanos();
+        long elapsed = time - startTime;
         if (elapsed >= pitchedDurationNanos) {
-            if (isLooping) {
-                startTime += pitchedDurationNanos;
-            } else {
+            if (isLooping && pitchedDurationNanos > 0L) {
+                startTime += (elapsed / pitchedDurationNanos) * pitchedDurationNanos;
+                hasLooped = true;
+            } else if (!isLooping) {
                 isFinished = true;
             }
         }
+        return !isFinished;
+    }
+
+    /** @return The time of the next end or loop boundary, -1 if there is none (or paused). */
+    long nextEventTime() {
+        long pitchedDurationNanos = getPitchedDurationNanos();
+        if (isFinished || isPaused || (isLooping && pitchedDurationNanos <= 0L)) {
+            return -1L;
+        }
+        return startTime + pitchedDurationNanos;
+    }
+
+    private long getPitchedDurationNanos() {
+        return (long) (durationNanos / pitch);
     }
 
     public void pause() {
@@ -82,7 +244,12 @@ public final class SoundInstance <S extends Enum<S> & SoundAsset> {
 
         isPaused = true;
         pauseTime = TimeUtils.nanoTime();
-        sound.pause(id);
+        if (!isVirtual) { // Virtual instances have no backend voice
+            sound.pause(id);
+        }
+        if (scheduler != null) {
+            scheduler.remove(this);
+        }
     }
 
     public void resume() {
@@ -94,7 +261,12 @@ public final class SoundInstance <S extends Enum<S> & SoundAsset> {
         startTime += pauseDuration;
 
         isPaused = false;
-        sound.resume(id);
+        if (!isVirtual) {
+            sound.resume(id);
+        }
+        if (scheduler != null) {
+            scheduler.schedule(this);
+        }
     }
 
     public void stop() {
@@ -103,7 +275,12 @@ public final class SoundInstance <S extends Enum<S> & SoundAsset> {
         }
 
         isFinished = true;
-        sound.stop(id);
+        if (!isVirtual) {
+            sound.stop(id);
+        }
+        if (scheduler != null) {
+            scheduler.stopped(this);
+        }
     }
 
     public void setRelativeVolume(float newVolume) {
@@ -114,7 +291,7 @@ public final class SoundInstance <S extends Enum<S> & SoundAsset> {
         newVolume = MathUtils.clamp(newVolume, FULL_VOLUME_RANGE[0], FULL_VOLUME_RANGE[1]);
         relativeVolume = newVolume;
         rawVolume = relativeVolume * masterVolume * positionalVolume;
-        sound.setVolume(id, rawVolume);
+        pushVolume();
     }
 
     public void setMasterVolume(float newVolume) {
@@ -125,7 +302,7 @@ public final class SoundInstance <S extends Enum<S> & SoundAsset> {
         newVolume = MathUtils.clamp(newVolume, FULL_VOLUME_RANGE[0], FULL_VOLUME_RANGE[1]);
         masterVolume = newVolume;
         rawVolume = relativeVolume * masterVolume * positionalVolume;
-        sound.setVolume(id, rawVolume);
+        pushVolume();
     }
 
     public void setPositionalVolume(float newVolume) {
@@ -136,7 +313,7 @@ public final class SoundInstance <S extends Enum<S> & SoundAsset> {
         newVolume = MathUtils.clamp(newVolume, FULL_VOLUME_RANGE[0], FULL_VOLUME_RANGE[1]);
         positionalVolume = newVolume;
         rawVolume = relativeVolume * masterVolume * positionalVolume;
-        sound.setVolume(id, rawVolume);
+        pushVolume();
     }
 
     public void setPositionalVolume(float newVolume, float newPan) {
@@ -151,7 +328,7 @@ public final class SoundInstance <S extends Enum<S> & SoundAsset> {
         rawVolume = relativeVolume * masterVolume * positionalVolume;
         pan = newPan;
 
-        sound.setPan(id, pan, rawVolume);
+        pushPan();
     }
 
     public void setPitch(float newPitch) {
@@ -166,11 +343,16 @@ public final class SoundInstance <S extends Enum<S> & SoundAsset> {
         // Set pitch
         newPitch = MathUtils.clamp(newPitch, FULL_PITCH_RANGE[0], FULL_PITCH_RANGE[1]);
         pitch = newPitch;
-        sound.setPitch(id, pitch);
+        if (!isVirtual) {
+            sound.setPitch(id, pitch);
+        }
 
         // Move startTime to be the same percentage of progress with the new duration
         long newPitchedDuration = (long) (durationNanos / pitch);
         startTime = TimeUtils.nanoTime() - (long) (progress * newPitchedDuration);
+        if (scheduler != null) {
+            scheduler.schedule(this);
+        }
     }
 
     public void setPan(float newPan) {
@@ -180,7 +362,7 @@ public final class SoundInstance <S extends Enum<S> & SoundAsset> {
 
         newPan = MathUtils.clamp(newPan, FULL_PAN_RANGE[0], FULL_PAN_RANGE[1]);
         pan = newPan;
-        sound.setPan(id, pan, rawVolume);
+        pushPan();
     }
 
     public void setLooping(boolean loop) {
@@ -189,7 +371,30 @@ public final class SoundInstance <S extends Enum<S> & SoundAsset> {
         }
 
         isLooping = loop;
-        sound.setLooping(id, isLooping);
+        if (!isVirtual) {
+            sound.setLooping(id, isLooping);
+        }
+        if (scheduler != null) { // The next event may have changed (zero length loops have none)
+            scheduler.schedule(this);
+        }
+    }
+
+    private void pushVolume() {
+        if (!isVirtual) { // Virtual instances have no backend voice
+            sound.setVolume(id, rawVolume);
+            if (metrics != null) {
+                metrics.frameVolumeCalls++;
+            }
+        }
+    }
+
+    private void pushPan() {
+        if (!isVirtual) {
+            sound.setPan(id, pan, rawVolume);
+            if (metrics != null) {
+                metrics.framePanCalls++;
+            }
+        }
     }
 
     public void setPosition(Vector2 newPos) {
@@ -199,18 +404,40 @@ public final class SoundInstance <S extends Enum<S> & SoundAsset> {
     }
 
     public void setPosition(float x, float y) {
-        if (position == null) { // No need to update position (this is called on position creation)
-            position = new Vector2(x, y);
+        if (!hasPosition) { // No need to update position (this is called on position creation)
+            position.set(x, y);
+            hasPosition = true;
             return;
         }
 
         if (Float.floatToIntBits(position.x) != Float.floatToIntBits(x) ||
                 Float.floatToIntBits(position.y) != Float.floatToIntBits(y)) {
-            positionUpdated = true;
             position.set(x, y);
+            if (positionalStore != null) { // Batched, no need to flag the instance
+                positionalStore.setPosition(positionArrayIndex, x, y);
+            } else {
+                positionUpdated = true;
+            }
         }
     }
 
+    public S getSoundAsset() {
+        return soundAsset;
+    }
+
+    public Sound getSound() {
+        return sound;
+    }
+
+    public float getDuration() {
+        return duration;
+    }
+
+    /** @return The backend's sound id. */
+    public long getId() {
+        return id;
+    }
+
     public float getRelativeVolume() {
         return relativeVolume;
     }
@@ -247,9 +474,14 @@ public final class SoundInstance <S extends Enum<S> & SoundAsset> {
         return isFinished;
     }
 
+    /** @return Whether this instance is out of range, without a backend voice. */
+    public boolean isVirtual() {
+        return isVirtual;
+    }
+
     /** DO NOT CHANGE - VOLUME AND PAN WILL NOT BE UPDATED! */
     @Nullable
     public Vector2 getPosition() {
-        return position;
+        return hasPosition ? position : null;
     }
 }
@@ -26,6 +26,11 @@ public enum Sounds implements SoundAsset {
         sound = assets.get(filename, Sound.class);
     }
 
+    @Override
+    public String path() {
+        return filename;
+    }
+
     @Override
     public float duration() {
         return AudioSystem.getDuration(Gdx.files.internal(filename));
@@ -0,0 +1,11 @@
+package com.rivelbop.osmigine.audio;
+
+/** Decides which voice is stolen when a voice limit is reached (lowest priority voices first). */
+public enum VoiceStealPolicy {
+    /** Never steal, the new play is rejected instead. */
+    REJECT,
+    /** Steal the voice that started playing first. */
+    OLDEST,
+    /** Steal the voice with the lowest raw volume. */
+    QUIETEST
+}
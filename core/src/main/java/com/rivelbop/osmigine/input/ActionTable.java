@@ -0,0 +1,134 @@
+package com.rivelbop.osmigine.input;
+
+import com.badlogic.gdx.controllers.Controller;
+import com.badlogic.gdx.controllers.Controllers;
+import com.badlogic.gdx.controllers.NullController;
+
+import java.util.Arrays;
+
+/**
+ * An {@link InputMap} with enum keys, compiled into a dense array of triggers (indexed by the
+ * keys' ordinals). Every action of every player is evaluated at once into a bitset, once per frame
+ * ({@link #evaluateFrame()}) and once per tick ({@link #evaluateTick()}), queries are then bit
+ * tests without any hashing or trigger calls. The SceneManager evaluates its table (see
+ * SceneManager#setActionTable) before each frame and each tick of the current scene.
+ * <p>
+ * The table recompiles itself once the map changed (see {@link InputMap#getVersion()}), changes
+ * made directly to the map's getInputMap() require calling {@link #compile()}.
+ *
+ * @param <K> The enum type of the InputMap's keys (actions).
+ */
+public final class ActionTable<K extends Enum<K>> {
+    private final InputMap<K> inputMap;
+    private final K[] actions;
+    private final InputTrigger[] triggers;
+    private final int players;
+    private final int wordsPerRow;
+
+    // One row per player (player index = row), the last row uses the current controller
+    private final long[] frameBits;
+    private final long[] tickBits;
+
+    private int compiledVersion = -1;
+
+    /** Evaluates every player of a party (see {@link ControllerProcessor#PARTY_SIZE}). */
+    public ActionTable(Class<K> actionClass, InputMap<K> inputMap) {
+        this(actionClass, inputMap, ControllerProcessor.PARTY_SIZE);
+    }
+
+    /** @param players The amount of players (controller indices) evaluated. */
+    public ActionTable(Class<K> actionClass, InputMap<K> inputMap, int players) {
+        this.inputMap = inputMap;
+        this.actions = actionClass.getEnumConstants();
+        this.triggers = new InputTrigger[actions.length];
+        this.players = Math.max(players, 0);
+        this.wordsPerRow = Math.max((actions.length + 63) >>> 6, 1);
+        frameBits = new long[(this.players + 1) * wordsPerRow];
+        tickBits = new long[(this.players + 1) * wordsPerRow];
+        compile();
+    }
+
+    /** Resolves every action's trigger (done automatically once the map changed). */
+    public void compile() {
+        for (int i = 0; i < actions.length; i++) {
+            triggers[i] = inputMap.getInputMap().get(actions[i]);
+        }
+        compiledVersion = inputMap.getVersion();
+    }
+
+    /** Evaluates every action for the current frame, CALLED BY THE SceneManager. */
+    public void evaluateFrame() {
+        evaluate(frameBits);
+    }
+
+    /** Evaluates every action for the current tick, CALLED BY THE Scene. */
+    public void evaluateTick() {
+        evaluate(tickBits);
+    }
+
+    private void evaluate(long[] bits) {
+        if (compiledVersion != inputMap.getVersion()) {
+            compile();
+        }
+
+        InputSystem inputs = inputMap.getInputSystem();
+        ControllerSystem controllers = inputMap.getControllerSystem();
+        Arrays.fill(bits, 0L);
+
+        int missingRow = -1; // Every player without a controller has the same actions
+        for (int row = 0; row <= players; row++) {
+            Controller controller = (row < players) ?
+                    controllers.getController(row) : Controllers.getCurrent();
+            int offset = row * wordsPerRow;
+
+            if (controller == null) {
+                if (missingRow != -1) {
+                    System.arraycopy(bits, missingRow * wordsPerRow, bits, offset, wordsPerRow);
+                    continue;
+                }
+                missingRow = row;
+                controller = NullController.INSTANCE;
+            }
+
+            for (int i = 0; i < triggers.length; i++) {
+                InputTrigger trigger = triggers[i];
+                if (trigger != null && trigger.isActive(inputs, controllers, controller)) {
+                    bits[offset + (i >>> 6)] |= 1L << i;
+                }
+            }
+        }
+    }
+
+    /** @return Whether the action was active this frame (with the current controller). */
+    public boolean get(K action) {
+        return isSet(frameBits, players, action);
+    }
+
+    /** @return Whether the action was active this frame for the given player. */
+    public boolean get(K action, int player) {
+        return player >= 0 && player < players && isSet(frameBits, player, action);
+    }
+
+    /** @return Whether the action was active this tick (with the current controller). */
+    public boolean getOnTick(K action) {
+        return isSet(tickBits, players, action);
+    }
+
+    /** @return Whether the action was active this tick for the given player. */
+    public boolean getOnTick(K action, int player) {
+        return player >= 0 && player < players && isSet(tickBits, player, action);
+    }
+
+    private boolean isSet(long[] bits, int row, K action) {
+        int i = action.ordinal();
+        return (bits[row * wordsPerRow + (i >>> 6)] & (1L << i)) != 0L;
+    }
+
+    public int getPlayers() {
+        return players;
+    }
+
+    public InputMap<K> getInputMap() {
+        return inputMap;
+    }
+}
@@ -14,8 +14,22 @@ public final class ControllerProcessor implements ControllerListener {
     public final ObjectMap<String, ControllerState> controllers = new ObjectMap<>(PARTY_SIZE);
     public final Array<Controller> indexedControllers = new Array<>(PARTY_SIZE);
 
-    // Automatically handling just pressed is slower but easier to integrate
+    // Button events are stamped with the current frame/tick, advancing it clears just pressed
+    public final InputClock clock = new InputClock();
+
+    // Bit-packed button states of every player (see InputState), the ControllerSystem's pressed
+    // queries read it, the button events only answer for buttons past its range
+    public final InputState inputState = new InputState();
+
+    // Binary session log, only while recording (see InputRecorder)
+    @Nullable
+    InputRecorder recorder;
+
+    // Automatically handling just pressed advances the frame through Gdx.app.postRunnable (once
+    // per frame with a press, the runnable is reused), easier to integrate
     public final boolean handleJustPressed;
+    private final Runnable autoPostRender = this::advanceFrame;
+    private boolean isAutoPostRenderQueued;
 
     public ControllerProcessor(boolean autoHandleJustPressed) {
         handleJustPressed = autoHandleJustPressed;
@@ -28,22 +42,28 @@ public final class ControllerProcessor implements ControllerListener {
 
     /** Only call if not auto-handling justPressed! */
     public void postRender() {
-        if (handleJustPressed) {
-            return;
-        }
-
-        for (ControllerState state : controllers.values()) {
-            for (InputEvent buttonEvent : state.buttonEvents) {
-                buttonEvent.isJustPressed = false;
-            }
+        if (!handleJustPressed) {
+            advanceFrame();
         }
     }
 
     public void postTick() {
-        for (ControllerState state : controllers.values()) {
-            for (InputEvent buttonEvent : state.buttonEvents) {
-                buttonEvent.isJustPressedOnTick = false;
-            }
+        clock.tick++;
+        inputState.clearJustPressedOnTick();
+    }
+
+    /** Every button pressed before now is no longer just pressed. */
+    private void advanceFrame() {
+        isAutoPostRenderQueued = false;
+        clock.frame++;
+        inputState.clearJustPressed();
+    }
+
+    /** Queues the frame to advance once the current frame ends (at most once per frame). */
+    private void queueAutoPostRender() {
+        if (handleJustPressed && !isAutoPostRenderQueued) {
+            isAutoPostRenderQueued = true;
+            Gdx.app.postRunnable(autoPostRender);
         }
     }
 
@@ -52,7 +72,7 @@ public final class ControllerProcessor implements ControllerListener {
         if (controller == null || controller == NullController.INSTANCE) {
             return;
         }
-        controllers.put(controller.getUniqueId(), new ControllerState(controller));
+        controllers.put(controller.getUniqueId(), new ControllerState(controller, clock));
 
         int index = controller.getPlayerIndex();
         if (index == Controller.PLAYER_IDX_UNSET) { // Controller doesn't have index support
@@ -64,6 +84,7 @@ public final class ControllerProcessor implements ControllerListener {
                 indexedControllers.add(controller);
                 controller.setPlayerIndex(indexedControllers.size - 1);
             }
+            recordConnected(controller);
             return;
         }
 
@@ -76,6 +97,14 @@ public final class ControllerProcessor implements ControllerListener {
             }
         }
         indexedControllers.set(index, controller);
+        recordConnected(controller);
+    }
+
+    /** Recorded once the controller has its player index. */
+    private void recordConnected(Controller controller) {
+        if (recorder != null) {
+            recorder.controllerConnected(controller);
+        }
     }
 
     @Override
@@ -86,6 +115,10 @@ public final class ControllerProcessor implements ControllerListener {
         controllers.remove(controller.getUniqueId());
 
         int index = controller.getPlayerIndex();
+        if (recorder != null && index != Controller.PLAYER_IDX_UNSET) {
+            recorder.controllerDisconnected(index);
+        }
+        inputState.releaseController(index);
         if (index > Controller.PLAYER_IDX_UNSET && index < indexedControllers.size) {
             indexedControllers.set(index, null);
         }
@@ -104,15 +137,12 @@ public final class ControllerProcessor implements ControllerListener {
             return false;
         }
 
-        InputEvent event = state.buttonEvents[eventIndex];
-        event.isPressed = true;
-        event.isJustPressed = true;
-        event.isJustPressedOnTick = true;
-
-        if (handleJustPressed) {
-            Gdx.app.postRunnable(() -> event.isJustPressed = false);
+        if (recorder != null) {
+            recorder.button(true, controller.getPlayerIndex(), eventIndex);
         }
-
+        state.buttonEvents[eventIndex].press();
+        inputState.press(InputState.controllerBit(controller.getPlayerIndex(), eventIndex));
+        queueAutoPostRender();
         return false;
     }
 
@@ -125,7 +155,11 @@ public final class ControllerProcessor implements ControllerListener {
 
         int eventIndex = i - controller.getMinButtonIndex();
         if (eventIndex > ControllerMapping.UNDEFINED && eventIndex < state.buttonEvents.length) {
+            if (recorder != null) {
+                recorder.button(false, controller.getPlayerIndex(), eventIndex);
+            }
             state.buttonEvents[eventIndex].isPressed = false;
+            inputState.release(InputState.controllerBit(controller.getPlayerIndex(), eventIndex));
         }
         return false;
     }
@@ -138,6 +172,9 @@ public final class ControllerProcessor implements ControllerListener {
         }
 
         if (i > ControllerMapping.UNDEFINED && i < state.axisValues.length) {
+            if (recorder != null) {
+                recorder.axis(controller.getPlayerIndex(), i, v);
+            }
             state.axisValues[i] = v;
         }
         return false;
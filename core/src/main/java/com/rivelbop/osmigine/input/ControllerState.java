@@ -7,7 +7,7 @@ public final class ControllerState {
     public final InputEvent[] buttonEvents;
     public final float[] axisValues;
 
-    public ControllerState(Controller controller) {
+    public ControllerState(Controller controller, InputClock clock) {
         this.controller = controller;
         if (controller == null) {
             buttonEvents = new InputEvent[0];
@@ -19,7 +19,7 @@ public final class ControllerState {
         buttonEvents = new InputEvent[controller.getMaxButtonIndex() -
                 controller.getMinButtonIndex() + 1];
         for (int i = 0; i < buttonEvents.length; i++) {
-            buttonEvents[i] = new InputEvent();
+            buttonEvents[i] = new InputEvent(clock);
         }
 
         axisValues = new float[controller.getAxisCount()];
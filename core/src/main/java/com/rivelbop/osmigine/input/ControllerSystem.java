@@ -7,7 +7,8 @@ import org.jspecify.annotations.Nullable;
 
 public final class ControllerSystem implements Disposable {
     private final ControllerProcessor controllerProcessor = new ControllerProcessor(false);
-    private final InputEvent missingInputEvent = new InputEvent();
+    private final InputEvent missingInputEvent =
+            new InputEvent(controllerProcessor.clock);
 
     public ControllerSystem(boolean addToAllControllers) {
         if (addToAllControllers) {
@@ -45,75 +46,98 @@ public final class ControllerSystem implements Disposable {
     }
 
     public boolean isPressed(Mapping button) {
-        return getButtonEvent(button).isPressed;
+        return isPressed(Controllers.getCurrent(), button);
     }
 
     public boolean isPressed(int index, Mapping button) {
-        return getButtonEvent(index, button).isPressed;
+        return isPressed(getController(index), button);
     }
 
     public boolean isPressed(Controller controller, Mapping button) {
-        return getButtonEvent(controller, button).isPressed;
+        return button != null && isPressed(controller, button.map(controller));
     }
 
     public boolean isPressed(int button) {
-        return getButtonEvent(button).isPressed;
+        return isPressed(Controllers.getCurrent(), button);
     }
 
     public boolean isPressed(int index, int button) {
-        return getButtonEvent(index, button).isPressed;
+        return isPressed(getController(index), button);
     }
 
     public boolean isPressed(Controller controller, int button) {
-        return getButtonEvent(controller, button).isPressed;
+        int bit = getButtonBit(controller, button);
+        return bit != -1 ? controllerProcessor.inputState.isPressed(bit) :
+                getButtonEvent(controller, button).isPressed;
     }
 
     public boolean isJustPressed(Mapping button) {
-        return getButtonEvent(button).isJustPressed;
+        return isJustPressed(Controllers.getCurrent(), button);
     }
 
     public boolean isJustPressed(int index, Mapping button) {
-        return getButtonEvent(index, button).isJustPressed;
+        return isJustPressed(getController(index), button);
     }
 
     public boolean isJustPressed(Controller controller, Mapping button) {
-        return getButtonEvent(controller, button).isJustPressed;
+        return button != null && isJustPressed(controller, button.map(controller));
     }
 
     public boolean isJustPressed(int button) {
-        return getButtonEvent(button).isJustPressed;
+        return isJustPressed(Controllers.getCurrent(), button);
     }
 
     public boolean isJustPressed(int index, int button) {
-        return getButtonEvent(index, button).isJustPressed;
+        return isJustPressed(getController(index), button);
     }
 
     public boolean isJustPressed(Controller controller, int button) {
-        return getButtonEvent(controller, button).isJustPressed;
+        int bit = getButtonBit(controller, button);
+        return bit != -1 ? controllerProcessor.inputState.isJustPressed(bit) :
+                getButtonEvent(controller, button).isJustPressed();
     }
 
     public boolean isJustPressedOnTick(Mapping button) {
-        return getButtonEvent(button).isJustPressedOnTick;
+        return isJustPressedOnTick(Controllers.getCurrent(), button);
     }
 
     public boolean isJustPressedOnTick(int index, Mapping button) {
-        return getButtonEvent(index, button).isJustPressedOnTick;
+        return isJustPressedOnTick(getController(index), button);
     }
 
     public boolean isJustPressedOnTick(Controller controller, Mapping button) {
-        return getButtonEvent(controller, button).isJustPressedOnTick;
+        return button != null && isJustPressedOnTick(controller, button.map(controller));
     }
 
     public boolean isJustPressedOnTick(int button) {
-        return getButtonEvent(button).isJustPressedOnTick;
+        return isJustPressedOnTick(Controllers.getCurrent(), button);
     }
 
     public boolean isJustPressedOnTick(int index, int button) {
-        return getButtonEvent(index, button).isJustPressedOnTick;
+        return isJustPressedOnTick(getController(index), button);
     }
 
     public boolean isJustPressedOnTick(Controller controller, int button) {
-        return getButtonEvent(controller, button).isJustPressedOnTick;
+        int bit = getButtonBit(controller, button);
+        return bit != -1 ? controllerProcessor.inputState.isJustPressedOnTick(bit) :
+                getButtonEvent(controller, button).isJustPressedOnTick();
+    }
+
+    /**
+     * The button queries read the InputState (the source of truth), buttons without a bit (past
+     * {@link InputState#CONTROLLER_BUTTON_COUNT} or players past the party) fall back to their
+     * events.
+     *
+     * @return The button's bit, -1 if it has none or the button/controller is invalid.
+     */
+    private int getButtonBit(Controller controller, int button) {
+        if (controller == null || button < controller.getMinButtonIndex()
+                || button > controller.getMaxButtonIndex()
+                || controllerProcessor.getControllerState(controller) == null) {
+            return -1;
+        }
+        return InputState.controllerBit(controller.getPlayerIndex(),
+                button - controller.getMinButtonIndex());
     }
 
     /** @return READ-ONLY */
@@ -199,6 +223,26 @@ public final class ControllerSystem implements Disposable {
         return controllerProcessor.getController(index);
     }
 
+    /** Use {@link InputRecorder#start(InputSystem, ControllerSystem)} instead. */
+    void setInputRecorder(@Nullable InputRecorder recorder) {
+        controllerProcessor.recorder = recorder;
+        if (recorder == null) {
+            return;
+        }
+
+        // Controllers connected before recording are recorded as connecting now
+        for (Controller c : controllerProcessor.indexedControllers) {
+            if (c != null) {
+                recorder.controllerConnected(c);
+            }
+        }
+    }
+
+    /** @return READ-ONLY, the bit-packed button states of every player. */
+    public InputState getState() {
+        return controllerProcessor.inputState;
+    }
+
     public ControllerProcessor getControllerProcessor() {
         return controllerProcessor;
     }
@@ -0,0 +1,21 @@
+package com.rivelbop.osmigine.input;
+
+/**
+ * The frame and tick counters of an input processor. Input events are stamped with the frame and
+ * tick they were pressed on, so an input is just pressed while its stamp matches the current
+ * count (advancing the counters "clears" every input at once, without visiting any of them).
+ */
+public final class InputClock {
+    long frame;
+    long tick;
+
+    /** @return The amount of frames that ended (postRender calls). */
+    public long getFrame() {
+        return frame;
+    }
+
+    /** @return The amount of ticks that ended (postTick calls). */
+    public long getTick() {
+        return tick;
+    }
+}
@@ -4,10 +4,59 @@ import com.badlogic.gdx.math.Vector2;
 
 public class InputEvent {
     public boolean isPressed = false;
-    public boolean isJustPressed = false;
-    public boolean isJustPressedOnTick = false;
+
+    // The frame and tick this input was last pressed on (-1 if never)
+    long pressFrame = -1L;
+    long pressTick = -1L;
+    private final InputClock clock;
+
+    public InputEvent(InputClock clock) {
+        this.clock = clock;
+    }
+
+    /** @return Whether the input was pressed during the current frame. */
+    public boolean isJustPressed() {
+        return pressFrame == clock.frame;
+    }
+
+    /** @return Whether the input was pressed since the last tick. */
+    public boolean isJustPressedOnTick() {
+        return pressTick == clock.tick;
+    }
+
+    void press() {
+        isPressed = true;
+        pressFrame = clock.frame;
+        pressTick = clock.tick;
+    }
+
+    /** Copies an input's bits, the press frame/tick are only known while it is just pressed. */
+    InputEvent set(InputState state, int bit) {
+        isPressed = state.isPressed(bit);
+        pressFrame = state.isJustPressed(bit) ? clock.frame : -1L;
+        pressTick = state.isJustPressedOnTick(bit) ? clock.tick : -1L;
+        return this;
+    }
+
+    /** Clears the just pressed state (a cancelled press). */
+    void cancel() {
+        pressFrame = -1L;
+        pressTick = -1L;
+    }
+
+    public long getPressFrame() {
+        return pressFrame;
+    }
+
+    public long getPressTick() {
+        return pressTick;
+    }
 
     public static final class Touch extends InputEvent {
         public final Vector2 position = new Vector2();
+
+        public Touch(InputClock clock) {
+            super(clock);
+        }
     }
 }
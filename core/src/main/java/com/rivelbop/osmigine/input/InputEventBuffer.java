@@ -0,0 +1,136 @@
+package com.rivelbop.osmigine.input;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/**
+ * A preallocated, lock-free (single producer, single consumer) ring buffer of raw input events
+ * with nanosecond timestamps, recorded by the {@link InputSystemProcessor} while enabled (see
+ * {@link InputSystem#setEventRecording(boolean)}).
+ * <p>
+ * Unlike the latest state, every event is kept in order (a press and release within one frame are
+ * both seen), and events are consumed up to a time, so each tick of a Scene can consume only the
+ * events within its own time slice (see Scene#pollTickInput). Events are stored in parallel
+ * primitive arrays, nothing is allocated once created. If the buffer is full, new events are
+ * dropped (see {@link #getDroppedEvents()}).
+ */
+public final class InputEventBuffer {
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final int mask;
+    private final long[] times;
+    private final Type[] types;
+    private final int[] codes;
+    private final int[] pointers;
+    private final float[] xs;
+    private final float[] ys;
+
+    // Written by the producer (input) and consumer (tick) only, published through volatile writes
+    private volatile long writeIndex;
+    private volatile long readIndex;
+    private long droppedEvents;
+
+    /** @param capacity Rounded up to the next power of two. */
+    public InputEventBuffer(int capacity) {
+        capacity = MathUtils.nextPowerOfTwo(Math.max(capacity, 2));
+        mask = capacity - 1;
+        times = new long[capacity];
+        types = new Type[capacity];
+        codes = new int[capacity];
+        pointers = new int[capacity];
+        xs = new float[capacity];
+        ys = new float[capacity];
+    }
+
+    /** @return Whether the event was recorded (false if the buffer is full). */
+    boolean add(long time, Type type, int code, int pointer, float x, float y) {
+        long write = writeIndex;
+        if (write - readIndex > mask) {
+            droppedEvents++;
+            return false;
+        }
+
+        int i = (int) write & mask;
+        times[i] = time;
+        types[i] = type;
+        codes[i] = code;
+        pointers[i] = pointer;
+        xs[i] = x;
+        ys[i] = y;
+        writeIndex = write + 1; // Publishes the event
+        return true;
+    }
+
+    /**
+     * Copies the oldest event into the given event and consumes it, only if it happened at or
+     * before the given time.
+     *
+     * @return Whether an event was consumed.
+     */
+    public boolean poll(long untilTime, Event event) {
+        long read = readIndex;
+        if (read == writeIndex) {
+            return false;
+        }
+
+        int i = (int) read & mask;
+        if (times[i] > untilTime) {
+            return false;
+        }
+
+        event.time = times[i];
+        event.type = types[i];
+        event.code = codes[i];
+        event.pointer = pointers[i];
+        event.x = xs[i];
+        event.y = ys[i];
+        readIndex = read + 1;
+        return true;
+    }
+
+    /** Consumes (discards) every event that happened at or before the given time. */
+    public void skip(long untilTime) {
+        long read = readIndex;
+        long write = writeIndex;
+        while (read != write && times[(int) read & mask] <= untilTime) {
+            read++;
+        }
+        readIndex = read;
+    }
+
+    /** Consumes (discards) every event, ONLY CALL FROM THE CONSUMER. */
+    public void clear() {
+        readIndex = writeIndex;
+    }
+
+    /** @return The amount of events waiting to be consumed. */
+    public int size() {
+        return (int) (writeIndex - readIndex);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /** @return The amount of events dropped because the buffer was full. */
+    public long getDroppedEvents() {
+        return droppedEvents;
+    }
+
+    /** A reusable copy of a recorded event (see {@link #poll(long, Event)}). */
+    public static final class Event {
+        /** The time the event happened (in nanoseconds, same time base as TimeUtils.nanoTime). */
+        public long time;
+        public Type type;
+        /** The keycode or button (0 for other types). */
+        public int code;
+        public int pointer;
+        /** The screen position, or the scroll amount. */
+        public float x;
+        public float y;
+    }
+
+    public enum Type {
+        KEY_DOWN, KEY_UP, TOUCH_DOWN, TOUCH_UP, TOUCH_CANCELLED, TOUCH_DRAGGED, MOUSE_MOVED,
+        SCROLLED
+    }
+}
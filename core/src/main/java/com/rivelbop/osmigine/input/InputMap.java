@@ -12,6 +12,9 @@ public final class InputMap<K> {
     private final InputSystem inputSystem;
     private final ControllerSystem controllerSystem;
 
+    // Incremented on every put or remap (see ActionTable)
+    private int version;
+
     public InputMap(InputSystem inputSystem, ControllerSystem controllerSystem) {
         this.inputSystem = inputSystem;
         this.controllerSystem = controllerSystem;
@@ -19,16 +22,19 @@ public final class InputMap<K> {
 
     public void put(K key, InputTrigger value) {
         inputMap.put(key, value);
+        version++;
     }
 
     public void put(ObjectMap<? extends K, ? extends InputTrigger> map) {
         inputMap.putAll(map);
+        version++;
     }
 
     public void remapKey(K key, int keycode) {
         InputTrigger trigger = inputMap.get(key);
         if (trigger != null) {
             trigger.key = keycode;
+            version++;
         }
     }
 
@@ -36,6 +42,7 @@ public final class InputMap<K> {
         InputTrigger trigger = inputMap.get(key);
         if (trigger != null) {
             trigger.mouse = mouse;
+            version++;
         }
     }
 
@@ -57,6 +64,7 @@ public final class InputMap<K> {
         InputTrigger trigger = inputMap.get(key);
         if (trigger != null) {
             trigger.button = button;
+            version++;
         }
     }
 
@@ -78,6 +86,7 @@ public final class InputMap<K> {
         InputTrigger trigger = inputMap.get(key);
         if (trigger != null) {
             trigger.axis = axis;
+            version++;
         }
     }
 
@@ -100,6 +109,11 @@ public final class InputMap<K> {
         return false;
     }
 
+    /** @return The amount of changes made through put and remap (not through getInputMap()). */
+    public int getVersion() {
+        return version;
+    }
+
     public ObjectMap<K, InputTrigger> getInputMap() {
         return inputMap;
     }
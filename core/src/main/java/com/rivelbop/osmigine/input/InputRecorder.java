@@ -0,0 +1,301 @@
+package com.rivelbop.osmigine.input;
+
+import com.badlogic.gdx.controllers.Controller;
+import com.badlogic.gdx.controllers.ControllerMapping;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.TimeUtils;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Records the raw input of an {@link InputSystem} and a {@link ControllerSystem} (keys, mouse,
+ * pointers, scroll, controller connections, buttons and axes), along with every tick and every
+ * frame's delta time, into a compact binary log that an {@link InputReplayer} feeds back.
+ * <p>
+ * Key, mouse and touch events keep their time and frames keep their time (see
+ * InputSystem#getFrameTime()), both relative to the previous frame's time, so replayed events fall
+ * into the same tick slices (see Scene#pollTickInput) as they did while recording.
+ * <p>
+ * The log is kept in memory while recording (nothing is written to disk during a frame). Integers
+ * are variable-length, positions are delta-encoded against the previous position and frame deltas
+ * against the previous delta, so a frame without any input is about 6 bytes. Start recording
+ * before the session starts (e.g. in init()), input held before then is not recorded.
+ */
+public final class InputRecorder {
+    static final int MAGIC = 0x4F534952; // "OSIR"
+    static final byte VERSION = 2;
+    static final int HEADER_SIZE = 5;
+
+    // Record types (each record is its type, followed by its fields)
+    static final byte FRAME = 0;
+    static final byte TICK = 1;
+    static final byte KEY_DOWN = 2;
+    static final byte KEY_UP = 3;
+    static final byte TOUCH_DOWN = 4;
+    static final byte TOUCH_UP = 5;
+    static final byte TOUCH_CANCELLED = 6;
+    static final byte TOUCH_DRAGGED = 7;
+    static final byte MOUSE_MOVED = 8;
+    static final byte SCROLLED = 9;
+    static final byte CONTROLLER_CONNECTED = 10;
+    static final byte CONTROLLER_DISCONNECTED = 11;
+    static final byte BUTTON_DOWN = 12;
+    static final byte BUTTON_UP = 13;
+    static final byte AXIS_MOVED = 14;
+
+    private final ByteArray log;
+
+    // Delta-encoding state
+    private int lastX;
+    private int lastY;
+    private int lastDeltaBits;
+    private long lastFrameTime;
+
+    private long frames;
+    private long ticks;
+
+    @Nullable
+    private InputSystem inputs;
+    @Nullable
+    private ControllerSystem controllers;
+
+    public InputRecorder() {
+        this(4096);
+    }
+
+    /** @param initialCapacity The initial size of the log (in bytes), it grows as needed. */
+    public InputRecorder(int initialCapacity) {
+        log = new ByteArray(Math.max(initialCapacity, HEADER_SIZE));
+        writeHeader();
+        lastFrameTime = TimeUtils.nanoTime();
+    }
+
+    /** Starts recording the given systems (stops recording the previous ones). */
+    public void start(InputSystem inputs, ControllerSystem controllers) {
+        stop();
+        this.inputs = inputs;
+        this.controllers = controllers;
+        inputs.setInputRecorder(this);
+        controllers.setInputRecorder(this); // Records the already connected controllers
+    }
+
+    /** Stops recording, the log is kept (see {@link #save(FileHandle)}). */
+    public void stop() {
+        if (inputs != null) {
+            inputs.setInputRecorder(null);
+            inputs = null;
+        }
+        if (controllers != null) {
+            controllers.setInputRecorder(null);
+            controllers = null;
+        }
+    }
+
+    public boolean isRecording() {
+        return inputs != null;
+    }
+
+    /** Clears the log (keeps recording if started). */
+    public void reset() {
+        log.clear();
+        writeHeader();
+        lastX = 0;
+        lastY = 0;
+        lastDeltaBits = 0;
+        lastFrameTime = TimeUtils.nanoTime();
+        frames = 0L;
+        ticks = 0L;
+
+        if (controllers != null) {
+            controllers.setInputRecorder(this); // Records the connected controllers again
+        }
+    }
+
+    /** Writes the log to the given file (overwriting it). */
+    public void save(FileHandle file) {
+        file.writeBytes(log.items, 0, log.size, false);
+    }
+
+    /** @return A copy of the log. */
+    public byte[] toBytes() {
+        return log.toArray();
+    }
+
+    /** @return The size of the log (in bytes). */
+    public int size() {
+        return log.size;
+    }
+
+    public long getFrames() {
+        return frames;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    void frame(float delta, long time) {
+        int deltaBits = Float.floatToIntBits(delta);
+        log.add(FRAME);
+        writeVarInt(deltaBits ^ lastDeltaBits);
+        writeVarLong(zigZag(time - lastFrameTime));
+        lastDeltaBits = deltaBits;
+        lastFrameTime = time;
+        frames++;
+    }
+
+    void tick() {
+        log.add(TICK);
+        ticks++;
+    }
+
+    void input(long time, InputEventBuffer.Type type, int code, int pointer, float x, float y) {
+        switch (type) {
+            case KEY_DOWN:
+                writeEvent(KEY_DOWN, time);
+                writeVarInt(code);
+                break;
+            case KEY_UP:
+                writeEvent(KEY_UP, time);
+                writeVarInt(code);
+                break;
+            case TOUCH_DOWN:
+                writeTouch(TOUCH_DOWN, time, code, pointer, (int) x, (int) y);
+                break;
+            case TOUCH_UP:
+                writeTouch(TOUCH_UP, time, code, pointer, (int) x, (int) y);
+                break;
+            case TOUCH_CANCELLED:
+                writeTouch(TOUCH_CANCELLED, time, code, pointer, (int) x, (int) y);
+                break;
+            case TOUCH_DRAGGED:
+                writeEvent(TOUCH_DRAGGED, time);
+                writeVarInt(pointer);
+                writePosition((int) x, (int) y);
+                break;
+            case MOUSE_MOVED:
+                writeEvent(MOUSE_MOVED, time);
+                writePosition((int) x, (int) y);
+                break;
+            case SCROLLED:
+                writeEvent(SCROLLED, time);
+                writeInt(Float.floatToIntBits(x));
+                writeInt(Float.floatToIntBits(y));
+                break;
+        }
+    }
+
+    void controllerConnected(Controller controller) {
+        log.add(CONTROLLER_CONNECTED);
+        writeVarInt(controller.getPlayerIndex());
+        writeVarInt(zigZag(controller.getMinButtonIndex()));
+        writeVarInt(controller.getMaxButtonIndex() - controller.getMinButtonIndex());
+        writeVarInt(controller.getAxisCount());
+
+        // The mapping is needed by Mapping based queries
+        ControllerMapping mapping = controller.getMapping();
+        writeVarInt(zigZag(mapping.axisLeftX));
+        writeVarInt(zigZag(mapping.axisLeftY));
+        writeVarInt(zigZag(mapping.axisRightX));
+        writeVarInt(zigZag(mapping.axisRightY));
+        writeVarInt(zigZag(mapping.buttonA));
+        writeVarInt(zigZag(mapping.buttonB));
+        writeVarInt(zigZag(mapping.buttonX));
+        writeVarInt(zigZag(mapping.buttonY));
+        writeVarInt(zigZag(mapping.buttonBack));
+        writeVarInt(zigZag(mapping.buttonStart));
+        writeVarInt(zigZag(mapping.buttonL1));
+        writeVarInt(zigZag(mapping.buttonL2));
+        writeVarInt(zigZag(mapping.buttonR1));
+        writeVarInt(zigZag(mapping.buttonR2));
+        writeVarInt(zigZag(mapping.buttonLeftStick));
+        writeVarInt(zigZag(mapping.buttonRightStick));
+        writeVarInt(zigZag(mapping.buttonDpadUp));
+        writeVarInt(zigZag(mapping.buttonDpadDown));
+        writeVarInt(zigZag(mapping.buttonDpadLeft));
+        writeVarInt(zigZag(mapping.buttonDpadRight));
+    }
+
+    void controllerDisconnected(int player) {
+        log.add(CONTROLLER_DISCONNECTED);
+        writeVarInt(player);
+    }
+
+    /** @param button The button index relative to the controller's min button index. */
+    void button(boolean isDown, int player, int button) {
+        log.add(isDown ? BUTTON_DOWN : BUTTON_UP);
+        writeVarInt(player);
+        writeVarInt(button);
+    }
+
+    void axis(int player, int axis, float value) {
+        log.add(AXIS_MOVED);
+        writeVarInt(player);
+        writeVarInt(axis);
+        writeInt(Float.floatToIntBits(value));
+    }
+
+    private void writeHeader() {
+        writeInt(MAGIC);
+        log.add(VERSION);
+    }
+
+    /** Writes the record type and the event's time (relative to the previous frame's time). */
+    private void writeEvent(byte type, long time) {
+        log.add(type);
+        writeVarLong(zigZag(time - lastFrameTime));
+    }
+
+    private void writeTouch(byte type, long time, int button, int pointer, int x, int y) {
+        writeEvent(type, time);
+        writeVarInt(button);
+        writeVarInt(pointer);
+        writePosition(x, y);
+    }
+
+    private void writePosition(int x, int y) {
+        writeVarInt(zigZag(x - lastX));
+        writeVarInt(zigZag(y - lastY));
+        lastX = x;
+        lastY = y;
+    }
+
+    /** Unsigned LEB128, 7 bits per byte. */
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            log.add((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        log.add((byte) value);
+    }
+
+    private void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0L) {
+            log.add((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        log.add((byte) value);
+    }
+
+    private void writeInt(int value) {
+        log.add((byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8),
+                (byte) value);
+    }
+
+    /** Maps signed integers to unsigned ones so small negatives stay small (-1 = 1, 1 = 2). */
+    static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1L);
+    }
+}
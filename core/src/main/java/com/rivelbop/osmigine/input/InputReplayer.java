@@ -0,0 +1,343 @@
+package com.rivelbop.osmigine.input;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.controllers.ControllerMapping;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import static com.rivelbop.osmigine.input.InputRecorder.*;
+
+/**
+ * Feeds an {@link InputRecorder} log back through an {@link InputSystem}'s and a
+ * {@link ControllerSystem}'s processors, one recorded frame per {@link #nextFrame()}. Recorded
+ * controllers are replayed by {@link ReplayController}s (query them by player index, the current
+ * controller of libGDX is not replaced).
+ * <p>
+ * Nothing waits on real time, replaying is as fast as the caller renders. Replay into fresh systems
+ * (the same state the recording started from), with the real input detached (or headless).
+ * SceneManager#setInputReplayer renders every frame with its recorded delta time, so ticks happen
+ * exactly as recorded. Replayed events and frames are stamped with their recorded times (shifted to
+ * when the replay started), so each tick polls the same events as it did while recording.
+ */
+public final class InputReplayer {
+    private final byte[] log;
+    private final InputSystemProcessor inputProcessor;
+    private final ControllerProcessor controllerProcessor;
+    private final IntMap<ReplayController> replayControllers = new IntMap<>();
+
+    private int position = HEADER_SIZE;
+    private boolean isTruncated; // A read ran past the end of the log (see endReplay)
+
+    // Delta-decoding state
+    private int lastX;
+    private int lastY;
+    private int lastDeltaBits;
+    private long lastFrameTime = TimeUtils.nanoTime();
+
+    private float frameDelta;
+    private long frames;
+    private long ticks;
+
+    public InputReplayer(FileHandle file, InputSystem inputs, ControllerSystem controllers) {
+        this(file.readBytes(), inputs, controllers);
+    }
+
+    /** @param log A log from {@link InputRecorder#toBytes()} (NOT COPIED). */
+    public InputReplayer(byte[] log, InputSystem inputs, ControllerSystem controllers) {
+        if (log.length < HEADER_SIZE || readInt(log, 0) != MAGIC || log[4] != VERSION) {
+            throw new IllegalArgumentException("Not an input recording (or unsupported version)!");
+        }
+
+        this.log = log;
+        this.inputProcessor = inputs.getProcessor();
+        this.controllerProcessor = controllers.getControllerProcessor();
+    }
+
+    /**
+     * Feeds the input of the next recorded frame.
+     *
+     * @return False if the log ended (no frame left to render).
+     */
+    public boolean nextFrame() {
+        while (position < log.length) {
+            int recordPosition = position;
+            byte type = log[position++];
+            switch (type) {
+                case FRAME: {
+                    int deltaBits = readVarInt();
+                    long frameTimeDelta = unZigZag(readVarLong());
+                    if (isTruncated) {
+                        break;
+                    }
+
+                    lastDeltaBits ^= deltaBits;
+                    frameDelta = Float.intBitsToFloat(lastDeltaBits);
+                    lastFrameTime += frameTimeDelta;
+                    inputProcessor.frameTime = lastFrameTime;
+                    inputProcessor.replayEventTime = InputSystemProcessor.NO_REPLAY_TIME;
+                    frames++;
+                    return true;
+                }
+                case TICK:
+                    ticks++;
+                    break;
+                case KEY_DOWN:
+                case KEY_UP: {
+                    readEventTime();
+                    int keycode = readVarInt();
+                    if (isTruncated) {
+                        break;
+                    }
+
+                    if (type == KEY_DOWN) {
+                        inputProcessor.keyDown(keycode);
+                    } else {
+                        inputProcessor.keyUp(keycode);
+                    }
+                    break;
+                }
+                case TOUCH_DOWN:
+                case TOUCH_UP:
+                case TOUCH_CANCELLED:
+                    readTouch(type);
+                    break;
+                case TOUCH_DRAGGED: {
+                    readEventTime();
+                    int pointer = readVarInt();
+                    readPosition();
+                    if (!isTruncated && hasPointer(pointer)) {
+                        inputProcessor.touchDragged(lastX, lastY, pointer);
+                    }
+                    break;
+                }
+                case MOUSE_MOVED:
+                    readEventTime();
+                    readPosition();
+                    if (!isTruncated) {
+                        inputProcessor.mouseMoved(lastX, lastY);
+                    }
+                    break;
+                case SCROLLED: {
+                    readEventTime();
+                    float amountX = Float.intBitsToFloat(readInt());
+                    float amountY = Float.intBitsToFloat(readInt());
+                    if (!isTruncated) {
+                        inputProcessor.scrolled(amountX, amountY);
+                    }
+                    break;
+                }
+                case CONTROLLER_CONNECTED:
+                    readControllerConnected();
+                    break;
+                case CONTROLLER_DISCONNECTED: {
+                    int player = readVarInt();
+                    ReplayController controller =
+                            isTruncated ? null : replayControllers.remove(player);
+                    if (controller != null) {
+                        controller.disconnect();
+                        controllerProcessor.disconnected(controller);
+                    }
+                    break;
+                }
+                case BUTTON_DOWN:
+                case BUTTON_UP:
+                    readButton(type == BUTTON_DOWN);
+                    break;
+                case AXIS_MOVED: {
+                    ReplayController controller = replayControllers.get(readVarInt());
+                    int axis = readVarInt();
+                    float value = Float.intBitsToFloat(readInt());
+                    if (!isTruncated && controller != null && axis >= 0
+                            && axis < controller.axes.length) {
+                        controller.axes[axis] = value;
+                        controllerProcessor.axisMoved(controller, axis, value);
+                    }
+                    break;
+                }
+                default:
+                    return endReplay("Unknown record type " + type, recordPosition);
+            }
+
+            if (isTruncated) {
+                return endReplay("Truncated record of type " + type, recordPosition);
+            }
+        }
+        inputProcessor.replayEventTime = InputSystemProcessor.NO_REPLAY_TIME;
+        return false;
+    }
+
+    /** Starts over from the first frame, the replayed controllers are disconnected. */
+    public void rewind() {
+        for (ReplayController controller : replayControllers.values()) {
+            controller.disconnect();
+            controllerProcessor.disconnected(controller);
+        }
+        replayControllers.clear();
+
+        position = HEADER_SIZE;
+        isTruncated = false;
+        lastX = 0;
+        lastY = 0;
+        lastDeltaBits = 0;
+        lastFrameTime = TimeUtils.nanoTime();
+        frameDelta = 0f;
+        frames = 0L;
+        ticks = 0L;
+    }
+
+    public boolean isFinished() {
+        return position >= log.length;
+    }
+
+    /** @return The delta time of the last replayed frame (in seconds). */
+    public float getFrameDelta() {
+        return frameDelta;
+    }
+
+    /** @return The amount of frames replayed (since the last rewind). */
+    public long getFrames() {
+        return frames;
+    }
+
+    /** @return The amount of ticks recorded in the replayed frames (since the last rewind). */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /** Ends the replay on a corrupt or truncated record, the rest of the log is skipped. */
+    private boolean endReplay(String reason, int recordPosition) {
+        Gdx.app.error("InputReplayer", reason + " at byte " + recordPosition
+                + ", the replay ends here.");
+        position = log.length;
+        inputProcessor.replayEventTime = InputSystemProcessor.NO_REPLAY_TIME;
+        return false;
+    }
+
+    /** The next replayed event is stamped with its recorded time. */
+    private void readEventTime() {
+        inputProcessor.replayEventTime = lastFrameTime + unZigZag(readVarLong());
+    }
+
+    private void readTouch(byte type) {
+        readEventTime();
+        int button = readVarInt();
+        int pointer = readVarInt();
+        readPosition();
+        if (isTruncated || !hasPointer(pointer)) {
+            return;
+        }
+
+        if (type == TOUCH_DOWN) {
+            inputProcessor.touchDown(lastX, lastY, pointer, button);
+        } else if (type == TOUCH_UP) {
+            inputProcessor.touchUp(lastX, lastY, pointer, button);
+        } else {
+            inputProcessor.touchCancelled(lastX, lastY, pointer, button);
+        }
+    }
+
+    /** Recordings from devices with more pointers than this one skip the extra pointers. */
+    private boolean hasPointer(int pointer) {
+        return pointer >= 0 && pointer < inputProcessor.pointerEvents.length;
+    }
+
+    private void readControllerConnected() {
+        int player = readVarInt();
+        int minButtonIndex = unZigZag(readVarInt());
+        int maxButtonIndex = minButtonIndex + readVarInt();
+        int axisCount = readVarInt();
+        ControllerMapping mapping = new ControllerMapping(readMapping(), readMapping(),
+                readMapping(), readMapping(), readMapping(), readMapping(), readMapping(),
+                readMapping(), readMapping(), readMapping(), readMapping(), readMapping(),
+                readMapping(), readMapping(), readMapping(), readMapping(), readMapping(),
+                readMapping(), readMapping(), readMapping());
+        if (isTruncated) {
+            return;
+        }
+
+        ReplayController previous = replayControllers.remove(player);
+        if (previous != null) {
+            previous.disconnect();
+            controllerProcessor.disconnected(previous);
+        }
+
+        ReplayController controller =
+                new ReplayController(player, minButtonIndex, maxButtonIndex, axisCount, mapping);
+        replayControllers.put(player, controller);
+        controllerProcessor.connected(controller);
+    }
+
+    private void readButton(boolean isDown) {
+        ReplayController controller = replayControllers.get(readVarInt());
+        int button = readVarInt();
+        if (isTruncated || controller == null || button < 0
+                || button >= controller.buttons.length) {
+            return;
+        }
+
+        controller.buttons[button] = isDown;
+        if (isDown) {
+            controllerProcessor.buttonDown(controller, controller.getMinButtonIndex() + button);
+        } else {
+            controllerProcessor.buttonUp(controller, controller.getMinButtonIndex() + button);
+        }
+    }
+
+    private int readMapping() {
+        return unZigZag(readVarInt());
+    }
+
+    private void readPosition() {
+        lastX += unZigZag(readVarInt());
+        lastY += unZigZag(readVarInt());
+    }
+
+    private int readVarInt() {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (position >= log.length) {
+                isTruncated = true;
+                return 0;
+            }
+            b = log[position++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    private long readVarLong() {
+        long value = 0L;
+        int shift = 0;
+        byte b;
+        do {
+            if (position >= log.length) {
+                isTruncated = true;
+                return 0L;
+            }
+            b = log[position++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    private int readInt() {
+        if (position > log.length - 4) {
+            isTruncated = true;
+            position = log.length;
+            return 0;
+        }
+        int value = readInt(log, position);
+        position += 4;
+        return value;
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) << 24 | (bytes[offset + 1] & 0xFF) << 16
+                | (bytes[offset + 2] & 0xFF) << 8 | (bytes[offset + 3] & 0xFF);
+    }
+}
@@ -0,0 +1,239 @@
+package com.rivelbop.osmigine.input;
+
+import com.badlogic.gdx.Input;
+
+import java.util.Arrays;
+
+/**
+ * A bit-packed input state, the pressed, just pressed and just pressed on tick state of every
+ * key, mouse button, pointer and controller button (of each player) are stored in bitsets.
+ * Every input has a fixed bit (see {@link #keyBit(int)}, {@link #mouseBit(int)},
+ * {@link #pointerBit(int)} and {@link #controllerBit(int, int)}), so states can be copied, diffed
+ * and serialized in O(words) for input capture, replay and networking.
+ * <p>
+ * The processors keep their own state up to date (see {@link InputSystem#getState()} and
+ * {@link ControllerSystem#getState()}), every pressed query of both systems reads it (the
+ * InputEvents only keep the press frame/tick and positions, and answer for mouse buttons,
+ * pointers and controller buttons past the range). Copies made through {@link #set(InputState)}
+ * or {@link #snapshot()} can be combined with {@link #merge(InputState)}.
+ */
+public final class InputState {
+    public static final int KEY_COUNT = Input.Keys.MAX_KEYCODE + 1;
+    public static final int MOUSE_BUTTON_COUNT = 32;
+    public static final int POINTER_COUNT = 32;
+    public static final int CONTROLLER_BUTTON_COUNT = 32; // Per player
+
+    public static final int KEY_OFFSET = 0;
+    public static final int MOUSE_OFFSET = KEY_OFFSET + KEY_COUNT;
+    public static final int POINTER_OFFSET = MOUSE_OFFSET + MOUSE_BUTTON_COUNT;
+    public static final int CONTROLLER_OFFSET = POINTER_OFFSET + POINTER_COUNT;
+    public static final int BIT_COUNT =
+            CONTROLLER_OFFSET + ControllerProcessor.PARTY_SIZE * CONTROLLER_BUTTON_COUNT;
+    public static final int WORD_COUNT = (BIT_COUNT + 63) >>> 6;
+
+    final long[] pressed = new long[WORD_COUNT];
+    final long[] justPressed = new long[WORD_COUNT];
+    final long[] justPressedOnTick = new long[WORD_COUNT];
+
+    /** @return The bit of the key, -1 if out of range. */
+    public static int keyBit(int keycode) {
+        return keycode >= 0 && keycode < KEY_COUNT ? KEY_OFFSET + keycode : -1;
+    }
+
+    /** @return The bit of the mouse button, -1 if out of range. */
+    public static int mouseBit(int button) {
+        return button >= 0 && button < MOUSE_BUTTON_COUNT ? MOUSE_OFFSET + button : -1;
+    }
+
+    /** @return The bit of the pointer, -1 if out of range. */
+    public static int pointerBit(int pointer) {
+        return pointer >= 0 && pointer < POINTER_COUNT ? POINTER_OFFSET + pointer : -1;
+    }
+
+    /**
+     * @param player The controller's player index.
+     * @param button The button index, relative to the controller's min button index.
+     * @return The bit of the controller button, -1 if out of range.
+     */
+    public static int controllerBit(int player, int button) {
+        if (player < 0 || player >= ControllerProcessor.PARTY_SIZE || button < 0 ||
+                button >= CONTROLLER_BUTTON_COUNT) {
+            return -1;
+        }
+        return CONTROLLER_OFFSET + player * CONTROLLER_BUTTON_COUNT + button;
+    }
+
+    void press(int bit) {
+        if (bit < 0) {
+            return;
+        }
+
+        int word = bit >>> 6;
+        long mask = 1L << bit;
+        pressed[word] |= mask;
+        justPressed[word] |= mask;
+        justPressedOnTick[word] |= mask;
+    }
+
+    /** Sets the pressed bit only (e.g. a dragged pointer). */
+    void hold(int bit) {
+        if (bit >= 0) {
+            pressed[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    void release(int bit) {
+        if (bit >= 0) {
+            pressed[bit >>> 6] &= ~(1L << bit);
+        }
+    }
+
+    /** Clears the just pressed bits (a cancelled press). */
+    void cancel(int bit) {
+        if (bit >= 0) {
+            justPressed[bit >>> 6] &= ~(1L << bit);
+            justPressedOnTick[bit >>> 6] &= ~(1L << bit);
+        }
+    }
+
+    /** Releases every button of the player (a disconnected controller). */
+    void releaseController(int player) {
+        for (int i = 0; i < CONTROLLER_BUTTON_COUNT; i++) {
+            int bit = controllerBit(player, i);
+            if (bit != -1) {
+                release(bit);
+                cancel(bit);
+            }
+        }
+    }
+
+    void clearJustPressed() {
+        Arrays.fill(justPressed, 0L);
+    }
+
+    void clearJustPressedOnTick() {
+        Arrays.fill(justPressedOnTick, 0L);
+    }
+
+    public boolean isPressed(int bit) {
+        return bit >= 0 && (pressed[bit >>> 6] & (1L << bit)) != 0L;
+    }
+
+    public boolean isJustPressed(int bit) {
+        return bit >= 0 && (justPressed[bit >>> 6] & (1L << bit)) != 0L;
+    }
+
+    public boolean isJustPressedOnTick(int bit) {
+        return bit >= 0 && (justPressedOnTick[bit >>> 6] & (1L << bit)) != 0L;
+    }
+
+    /** Copies the state. */
+    public InputState set(InputState state) {
+        System.arraycopy(state.pressed, 0, pressed, 0, WORD_COUNT);
+        System.arraycopy(state.justPressed, 0, justPressed, 0, WORD_COUNT);
+        System.arraycopy(state.justPressedOnTick, 0, justPressedOnTick, 0, WORD_COUNT);
+        return this;
+    }
+
+    /** @return A new copy of this state. */
+    public InputState snapshot() {
+        return new InputState().set(this);
+    }
+
+    /** Adds the bits set in the state (e.g. a keyboard state and a controller state). */
+    public InputState merge(InputState state) {
+        for (int i = 0; i < WORD_COUNT; i++) {
+            pressed[i] |= state.pressed[i];
+            justPressed[i] |= state.justPressed[i];
+            justPressedOnTick[i] |= state.justPressedOnTick[i];
+        }
+        return this;
+    }
+
+    /**
+     * Stores the bits that changed between the previous state and this state (XOR), applying the
+     * diff to the previous state with {@link #apply(InputState)} results in this state.
+     *
+     * @return The diff.
+     */
+    public InputState diff(InputState previous, InputState diff) {
+        for (int i = 0; i < WORD_COUNT; i++) {
+            diff.pressed[i] = pressed[i] ^ previous.pressed[i];
+            diff.justPressed[i] = justPressed[i] ^ previous.justPressed[i];
+            diff.justPressedOnTick[i] = justPressedOnTick[i] ^ previous.justPressedOnTick[i];
+        }
+        return diff;
+    }
+
+    /** Toggles the bits set in the diff (see {@link #diff(InputState, InputState)}). */
+    public InputState apply(InputState diff) {
+        for (int i = 0; i < WORD_COUNT; i++) {
+            pressed[i] ^= diff.pressed[i];
+            justPressed[i] ^= diff.justPressed[i];
+            justPressedOnTick[i] ^= diff.justPressedOnTick[i];
+        }
+        return this;
+    }
+
+    public InputState clear() {
+        Arrays.fill(pressed, 0L);
+        Arrays.fill(justPressed, 0L);
+        Arrays.fill(justPressedOnTick, 0L);
+        return this;
+    }
+
+    /** @return Whether no bit is set (e.g. an empty diff). */
+    public boolean isEmpty() {
+        for (int i = 0; i < WORD_COUNT; i++) {
+            if ((pressed[i] | justPressed[i] | justPressedOnTick[i]) != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** DO NOT ALTER, GETTER ONLY */
+    public long[] getPressedWords() {
+        return pressed;
+    }
+
+    /** DO NOT ALTER, GETTER ONLY */
+    public long[] getJustPressedWords() {
+        return justPressed;
+    }
+
+    /** DO NOT ALTER, GETTER ONLY */
+    public long[] getJustPressedOnTickWords() {
+        return justPressedOnTick;
+    }
+
+    /** Sets a word of each bitset (e.g. from a deserialized state). */
+    public void setWords(int index, long pressedWord, long justPressedWord,
+                         long justPressedOnTickWord) {
+        pressed[index] = pressedWord;
+        justPressed[index] = justPressedWord;
+        justPressedOnTick[index] = justPressedOnTickWord;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof InputState)) {
+            return false;
+        }
+
+        InputState state = (InputState) o;
+        return Arrays.equals(pressed, state.pressed) &&
+                Arrays.equals(justPressed, state.justPressed) &&
+                Arrays.equals(justPressedOnTick, state.justPressedOnTick);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(pressed);
+        result = 31 * result + Arrays.hashCode(justPressed);
+        return 31 * result + Arrays.hashCode(justPressedOnTick);
+    }
+}
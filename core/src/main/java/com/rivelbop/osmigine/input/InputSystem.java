@@ -7,17 +7,20 @@ import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import org.jspecify.annotations.Nullable;
 
 public final class InputSystem implements Disposable {
     private final InputSystemProcessor inputProcessor = new InputSystemProcessor(false);
     private final CursorProvider cursorProvider;
 
-    // Invalid Key Handling
-    private final InputEvent invalidKeyEvent = new InputEvent();
+    // Key Event Snapshots (see getKeyEvent)
+    private final InputEvent keyEvent = new InputEvent(inputProcessor.clock);
 
     // Missing Mouse Handling
-    private final InputEvent.Touch missingMouseButton = new InputEvent.Touch();
+    private final InputEvent.Touch missingMouseButton =
+            new InputEvent.Touch(inputProcessor.clock);
 
     // Garbage-Collection Performance
     private final Vector3 cursorWorldVec3 = new Vector3();
@@ -39,54 +42,77 @@ public final class InputSystem implements Disposable {
         }
     }
 
+    /**
+     * MUST BE CALLED BEFORE RENDERING (IF USING TICK INPUT OR RECORDING)! Samples the frame's time
+     * (see {@link #getFrameTime()}), NOT CALLED WHILE REPLAYING (the replayer sets it).
+     */
+    public void preRender() {
+        inputProcessor.frameTime = TimeUtils.nanoTime();
+    }
+
     /** MUST BE CALLED! */
     public void postRender() {
+        if (inputProcessor.recorder != null) {
+            inputProcessor.recorder.frame(Gdx.graphics.getDeltaTime(), inputProcessor.frameTime);
+        }
         inputProcessor.postRender();
     }
 
     /** MUST BE CALLED (IF USING TICKS)! */
     public void postTick() {
+        if (inputProcessor.recorder != null) {
+            inputProcessor.recorder.tick();
+        }
         inputProcessor.postTick();
     }
 
-    /** @return READ-ONLY */
+    /**
+     * @return READ-ONLY, a snapshot of the key's bits (reused, only valid until the next call), the
+     * press frame/tick are -1 once it is no longer just pressed.
+     */
     public InputEvent getKeyEvent(int keycode) {
-        if (keycode < 0 || keycode >= inputProcessor.keyEvents.length) {
-            return invalidKeyEvent;
-        }
-        return inputProcessor.keyEvents[keycode];
+        return keyEvent.set(inputProcessor.inputState, InputState.keyBit(keycode));
     }
 
+    // The pressed queries read the InputState (the source of truth), the events keep the press
+    // frame/tick and positions
     public boolean isKeyPressed(int keycode) {
-        return getKeyEvent(keycode).isPressed;
+        return inputProcessor.inputState.isPressed(InputState.keyBit(keycode));
     }
 
     public boolean isKeyJustPressed(int keycode) {
-        return getKeyEvent(keycode).isJustPressed;
+        return inputProcessor.inputState.isJustPressed(InputState.keyBit(keycode));
     }
 
     public boolean isKeyJustPressedOnTick(int keycode) {
-        return getKeyEvent(keycode).isJustPressedOnTick;
+        return inputProcessor.inputState.isJustPressedOnTick(InputState.keyBit(keycode));
     }
 
     /** @return READ-ONLY */
     public InputEvent.Touch getMouseEvent(int button) {
-        if (button >= inputProcessor.mouseEvents.size) {
+        if (button < 0 || button >= inputProcessor.mouseEvents.size) {
             return missingMouseButton;
         }
         return inputProcessor.mouseEvents.get(button);
     }
 
+    // Buttons past the InputState's range fall back to their events
     public boolean isMousePressed(int button) {
-        return getMouseEvent(button).isPressed;
+        int bit = InputState.mouseBit(button);
+        return bit != -1 ? inputProcessor.inputState.isPressed(bit) :
+                getMouseEvent(button).isPressed;
     }
 
     public boolean isMouseJustPressed(int button) {
-        return getMouseEvent(button).isJustPressed;
+        int bit = InputState.mouseBit(button);
+        return bit != -1 ? inputProcessor.inputState.isJustPressed(bit) :
+                getMouseEvent(button).isJustPressed();
     }
 
     public boolean isMouseJustPressedOnTick(int button) {
-        return getMouseEvent(button).isJustPressedOnTick;
+        int bit = InputState.mouseBit(button);
+        return bit != -1 ? inputProcessor.inputState.isJustPressedOnTick(bit) :
+                getMouseEvent(button).isJustPressedOnTick();
     }
 
     public Vector2 getMousePressedPosition(int button, boolean copy) {
@@ -104,16 +130,23 @@ public final class InputSystem implements Disposable {
         return getTouchEvent(pointer);
     }
 
+    // Pointers past the InputState's range fall back to their events
     public boolean isTouched(int pointer) {
-        return getTouchEvent(pointer).isPressed;
+        int bit = InputState.pointerBit(pointer);
+        return bit != -1 ? inputProcessor.inputState.isPressed(bit) :
+                getTouchEvent(pointer).isPressed;
     }
 
     public boolean isJustTouched(int pointer) {
-        return getTouchEvent(pointer).isJustPressed;
+        int bit = InputState.pointerBit(pointer);
+        return bit != -1 ? inputProcessor.inputState.isJustPressed(bit) :
+                getTouchEvent(pointer).isJustPressed();
     }
 
     public boolean isJustTouchedOnTick(int pointer) {
-        return getTouchEvent(pointer).isJustPressedOnTick;
+        int bit = InputState.pointerBit(pointer);
+        return bit != -1 ? inputProcessor.inputState.isJustPressedOnTick(bit) :
+                getTouchEvent(pointer).isJustPressedOnTick();
     }
 
     public Vector2 getTouchPosition(int pointer, boolean copy) {
@@ -196,10 +229,61 @@ public final class InputSystem implements Disposable {
         return copy ? scroll.cpy() : scroll;
     }
 
+    /**
+     * Records every raw key, mouse and touch event with its timestamp into the
+     * {@link #getEventBuffer()} (disabled by default). Scenes consume the events of each tick's
+     * time slice, any other consumer MUST consume the events (or they're dropped once full).
+     */
+    public void setEventRecording(boolean recordEvents) {
+        if (!recordEvents) {
+            inputProcessor.eventBuffer.clear();
+        }
+        inputProcessor.isRecordingEvents = recordEvents;
+    }
+
+    public boolean isRecordingEvents() {
+        return inputProcessor.isRecordingEvents;
+    }
+
+    public InputEventBuffer getEventBuffer() {
+        return inputProcessor.eventBuffer;
+    }
+
+    /**
+     * @return The time the current frame started (in nanoseconds, the same time base as the
+     * events), the recorded time while replaying. Ticks slice the frame's events up to it.
+     */
+    public long getFrameTime() {
+        return inputProcessor.frameTime;
+    }
+
+    /** Use {@link InputRecorder#start(InputSystem, ControllerSystem)} instead. */
+    void setInputRecorder(@Nullable InputRecorder recorder) {
+        inputProcessor.recorder = recorder;
+    }
+
+    /** @return The recorder currently recording this system (if any). */
+    @Nullable
+    public InputRecorder getInputRecorder() {
+        return inputProcessor.recorder;
+    }
+
+    /**
+     * @return READ-ONLY, the bit-packed key, mouse button and pointer states (every pressed query
+     * of this system reads it).
+     */
+    public InputState getState() {
+        return inputProcessor.inputState;
+    }
+
     public InputProcessor getInputProcessor() {
         return inputProcessor;
     }
 
+    InputSystemProcessor getProcessor() {
+        return inputProcessor;
+    }
+
     @Override
     public void dispose() {
         InputProcessor globalInput = Gdx.input.getInputProcessor();
@@ -5,32 +5,58 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+import org.jspecify.annotations.Nullable;
 
 public final class InputSystemProcessor implements InputProcessor {
     public static final int CURSOR_POINTER_ID = 0;
-
-    public final InputEvent[] keyEvents = new InputEvent[Input.Keys.MAX_KEYCODE + 1];
+    static final long NO_REPLAY_TIME = Long.MIN_VALUE;
 
     // There is no definitive amount of maximum mouse buttons - this array needs to grow
     public final Array<InputEvent.Touch> mouseEvents = new Array<>(Input.Buttons.FORWARD + 1);
 
-    public final InputEvent.Touch[] pointerEvents = new InputEvent.Touch[Gdx.input.getMaxPointers()];
+    // Headless backends report no pointers, the cursor pointer is still needed (e.g. replays)
+    public final InputEvent.Touch[] pointerEvents =
+            new InputEvent.Touch[Math.max(Gdx.input.getMaxPointers(), CURSOR_POINTER_ID + 1)];
 
     public final Vector2 scrollAmount = new Vector2();
 
-    // Automatically handling just pressed is slower but easier to integrate
+    // Input events are stamped with the current frame/tick, advancing it clears just pressed
+    public final InputClock clock = new InputClock();
+
+    // Bit-packed key, mouse button and pointer states (see InputState), the InputSystem's pressed
+    // queries read it, the events above keep the press frame/tick and positions (keys only have
+    // their bits)
+    public final InputState inputState = new InputState();
+
+    // Raw timestamped events, only recorded while enabled (see InputSystem#setEventRecording)
+    public final InputEventBuffer eventBuffer =
+            new InputEventBuffer(InputEventBuffer.DEFAULT_CAPACITY);
+    boolean isRecordingEvents;
+
+    // Binary session log, only while recording (see InputRecorder)
+    @Nullable
+    InputRecorder recorder;
+
+    // The time of the current frame (see InputSystem#preRender), replays set the recorded time
+    long frameTime;
+
+    // Stamps replayed events instead of the backend's event time (see InputReplayer)
+    long replayEventTime = NO_REPLAY_TIME;
+
+    // Automatically handling just pressed advances the frame through Gdx.app.postRunnable (once
+    // per frame with a press, the runnable is reused), easier to integrate
     public final boolean handleJustPressed;
+    private final Runnable autoPostRender = this::advanceFrame;
+    private boolean isAutoPostRenderQueued;
 
     public InputSystemProcessor(boolean autoHandleJustPressed) {
         // Avoid null
-        for (int i = 0; i < keyEvents.length; i++) {
-            keyEvents[i] = new InputEvent();
-        }
         for (int i = 0; i < Input.Buttons.FORWARD + 1; i++) {
-            mouseEvents.add(new InputEvent.Touch());
+            mouseEvents.add(new InputEvent.Touch(clock));
         }
         for (int i = 0; i < pointerEvents.length; i++) {
-            pointerEvents[i] = new InputEvent.Touch();
+            pointerEvents[i] = new InputEvent.Touch(clock);
         }
 
         handleJustPressed = autoHandleJustPressed;
@@ -38,56 +64,68 @@ public final class InputSystemProcessor implements InputProcessor {
 
     /** Only call if not auto-handling justPressed! */
     public void postRender() {
-        if (handleJustPressed) {
-            return;
+        if (!handleJustPressed) {
+            advanceFrame();
         }
+    }
 
-        for (InputEvent keyEvent : keyEvents) {
-            keyEvent.isJustPressed = false;
-        }
+    public void postTick() {
+        clock.tick++;
+        inputState.clearJustPressedOnTick();
+    }
 
-        for (InputEvent mouseEvent : mouseEvents) {
-            mouseEvent.isJustPressed = false;
-        }
+    /** Every input pressed before now is no longer just pressed. */
+    private void advanceFrame() {
+        isAutoPostRenderQueued = false;
+        clock.frame++;
+        inputState.clearJustPressed();
+        scrollAmount.setZero();
+    }
 
-        for (InputEvent touchEvent : pointerEvents) {
-            touchEvent.isJustPressed = false;
+    /** Queues the frame to advance once the current frame ends (at most once per frame). */
+    private void queueAutoPostRender() {
+        if (handleJustPressed && !isAutoPostRenderQueued) {
+            isAutoPostRenderQueued = true;
+            Gdx.app.postRunnable(autoPostRender);
         }
-
-        scrollAmount.setZero();
     }
 
-    public void postTick() {
-        for (InputEvent keyEvent : keyEvents) {
-            keyEvent.isJustPressedOnTick = false;
+    private void record(InputEventBuffer.Type type, int code, int pointer, float x, float y) {
+        if (recorder == null && !isRecordingEvents) {
+            return;
         }
 
-        for (InputEvent mouseEvent : mouseEvents) {
-            mouseEvent.isJustPressedOnTick = false;
+        long time = eventTime();
+        if (recorder != null) {
+            recorder.input(time, type, code, pointer, x, y);
+        }
+        if (isRecordingEvents) {
+            eventBuffer.add(time, type, code, pointer, x, y);
         }
+    }
 
-        for (InputEvent touchEvent : pointerEvents) {
-            touchEvent.isJustPressedOnTick = false;
+    private long eventTime() {
+        if (replayEventTime != NO_REPLAY_TIME) {
+            return replayEventTime;
         }
+
+        // Backends stamp their events with System.nanoTime (0 if unsupported, e.g. headless)
+        long time = Gdx.input.getCurrentEventTime();
+        return time != 0L ? time : TimeUtils.nanoTime();
     }
 
     @Override
     public boolean keyDown(int keycode) {
-        InputEvent keyEvent = keyEvents[keycode];
-        keyEvent.isPressed = true;
-        keyEvent.isJustPressed = true;
-        keyEvent.isJustPressedOnTick = true;
-
-        if (handleJustPressed) {
-            Gdx.app.postRunnable(() -> keyEvent.isJustPressed = false);
-        }
-
+        record(InputEventBuffer.Type.KEY_DOWN, keycode, 0, 0f, 0f);
+        inputState.press(InputState.keyBit(keycode));
+        queueAutoPostRender();
         return false;
     }
 
     @Override
     public boolean keyUp(int keycode) {
-        keyEvents[keycode].isPressed = false;
+        record(InputEventBuffer.Type.KEY_UP, keycode, 0, 0f, 0f);
+        inputState.release(InputState.keyBit(keycode));
         return false;
     }
 
@@ -101,46 +139,47 @@ public final class InputSystemProcessor implements InputProcessor {
 
     @Override
     public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+        record(InputEventBuffer.Type.TOUCH_DOWN, button, pointer, screenX, screenY);
+
         // Expand the available mouse button IDs (in case of side mouse buttons)
         if (button >= mouseEvents.size) {
             int additionalCapacity = button - mouseEvents.size + 1;
             mouseEvents.ensureCapacity(additionalCapacity);
 
             for (int i = 0; i < additionalCapacity; i++) {
-                mouseEvents.add(new InputEvent.Touch());
+                mouseEvents.add(new InputEvent.Touch(clock));
             }
         }
 
         InputEvent.Touch mouseEvent = mouseEvents.get(button);
         mouseEvent.position.set(screenX, screenY);
-        mouseEvent.isPressed = true;
-        mouseEvent.isJustPressed = true;
-        mouseEvent.isJustPressedOnTick = true;
+        mouseEvent.press();
 
         InputEvent.Touch pointerEvent = pointerEvents[pointer];
         pointerEvent.position.set(screenX, screenY);
-        pointerEvent.isPressed = true;
-        pointerEvent.isJustPressed = true;
-        pointerEvent.isJustPressedOnTick = true;
-
-        if (handleJustPressed) {
-            Gdx.app.postRunnable(() -> {
-                mouseEvent.isJustPressed = false;
-                pointerEvent.isJustPressed = false;
-            });
-        }
+        pointerEvent.press();
 
+        inputState.press(InputState.mouseBit(button));
+        inputState.press(InputState.pointerBit(pointer));
+
+        queueAutoPostRender();
         return false;
     }
 
     @Override
     public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+        record(InputEventBuffer.Type.TOUCH_UP, button, pointer, screenX, screenY);
+        releaseTouch(screenX, screenY, pointer, button);
+        return false;
+    }
+
+    private void releaseTouch(int screenX, int screenY, int pointer, int button) {
         // Expand the available mouse button IDs (in case of side mouse buttons)
         if (button >= mouseEvents.size) {
             int additionalCapacity = button - mouseEvents.size + 1;
             mouseEvents.ensureCapacity(additionalCapacity);
             for (int i = 0; i < additionalCapacity; i++) {
-                mouseEvents.add(new InputEvent.Touch());
+                mouseEvents.add(new InputEvent.Touch(clock));
             }
         }
 
@@ -152,29 +191,30 @@ public final class InputSystemProcessor implements InputProcessor {
         pointerEvent.position.set(screenX, screenY);
         pointerEvent.isPressed = false;
 
-        return false;
+        inputState.release(InputState.mouseBit(button));
+        inputState.release(InputState.pointerBit(pointer));
     }
 
     @Override
     public boolean touchCancelled(int screenX, int screenY, int pointer, int button) {
-        touchUp(screenX, screenY, pointer, button);
+        record(InputEventBuffer.Type.TOUCH_CANCELLED, button, pointer, screenX, screenY);
+        releaseTouch(screenX, screenY, pointer, button);
 
-        InputEvent.Touch event = mouseEvents.get(button);
-        event.isJustPressed = false;
-        event.isJustPressedOnTick = false;
-
-        event = pointerEvents[pointer];
-        event.isJustPressed = false;
-        event.isJustPressedOnTick = false;
+        mouseEvents.get(button).cancel();
+        pointerEvents[pointer].cancel();
+        inputState.cancel(InputState.mouseBit(button));
+        inputState.cancel(InputState.pointerBit(pointer));
 
         return false;
     }
 
     @Override
     public boolean touchDragged(int screenX, int screenY, int pointer) {
+        record(InputEventBuffer.Type.TOUCH_DRAGGED, 0, pointer, screenX, screenY);
         InputEvent.Touch pointerEvent = pointerEvents[pointer];
         pointerEvent.position.set(screenX, screenY);
         pointerEvent.isPressed = true;
+        inputState.hold(InputState.pointerBit(pointer));
 
         // For non-touchscreen devices, we only need the primary cursor
         if (pointer != CURSOR_POINTER_ID) {
@@ -192,18 +232,16 @@ public final class InputSystemProcessor implements InputProcessor {
 
     @Override
     public boolean mouseMoved(int screenX, int screenY) {
+        record(InputEventBuffer.Type.MOUSE_MOVED, 0, CURSOR_POINTER_ID, screenX, screenY);
         pointerEvents[CURSOR_POINTER_ID].position.set(screenX, screenY);
         return false;
     }
 
     @Override
     public boolean scrolled(float amountX, float amountY) {
+        record(InputEventBuffer.Type.SCROLLED, 0, 0, amountX, amountY);
         scrollAmount.set(amountX, amountY);
-
-        if (handleJustPressed) {
-            Gdx.app.postRunnable(scrollAmount::setZero);
-        }
-
+        queueAutoPostRender();
         return false;
     }
 }
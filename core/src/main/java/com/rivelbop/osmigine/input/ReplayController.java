@@ -0,0 +1,135 @@
+package com.rivelbop.osmigine.input;
+
+import com.badlogic.gdx.controllers.Controller;
+import com.badlogic.gdx.controllers.ControllerListener;
+import com.badlogic.gdx.controllers.ControllerMapping;
+import com.badlogic.gdx.controllers.ControllerPowerLevel;
+
+/**
+ * A {@link Controller} without a device, standing in for a recorded controller while its input is
+ * replayed (see {@link InputReplayer}). Its state is only changed by the replayer, listeners are
+ * not supported (the replayer feeds the ControllerProcessor directly).
+ */
+public final class ReplayController implements Controller {
+    private final String uniqueId;
+    private final int minButtonIndex;
+    private final int maxButtonIndex;
+    private final ControllerMapping mapping;
+
+    final boolean[] buttons;
+    final float[] axes;
+
+    private int playerIndex;
+    private boolean isConnected = true;
+
+    public ReplayController(int playerIndex, int minButtonIndex, int maxButtonIndex, int axisCount,
+                            ControllerMapping mapping) {
+        this.uniqueId = "REPLAY_CONTROLLER_" + playerIndex;
+        this.playerIndex = playerIndex;
+        this.minButtonIndex = minButtonIndex;
+        this.maxButtonIndex = Math.max(minButtonIndex, maxButtonIndex);
+        this.mapping = mapping;
+        buttons = new boolean[this.maxButtonIndex - minButtonIndex + 1];
+        axes = new float[Math.max(axisCount, 0)];
+    }
+
+    void disconnect() {
+        isConnected = false;
+    }
+
+    @Override
+    public boolean getButton(int buttonCode) {
+        int i = buttonCode - minButtonIndex;
+        return i >= 0 && i < buttons.length && buttons[i];
+    }
+
+    @Override
+    public float getAxis(int axisCode) {
+        return (axisCode >= 0 && axisCode < axes.length) ? axes[axisCode] : 0f;
+    }
+
+    @Override
+    public String getName() {
+        return "Replay Controller";
+    }
+
+    @Override
+    public String getUniqueId() {
+        return uniqueId;
+    }
+
+    @Override
+    public int getMinButtonIndex() {
+        return minButtonIndex;
+    }
+
+    @Override
+    public int getMaxButtonIndex() {
+        return maxButtonIndex;
+    }
+
+    @Override
+    public int getAxisCount() {
+        return axes.length;
+    }
+
+    @Override
+    public boolean isConnected() {
+        return isConnected;
+    }
+
+    @Override
+    public boolean canVibrate() {
+        return false;
+    }
+
+    @Override
+    public boolean isVibrating() {
+        return false;
+    }
+
+    @Override
+    public void startVibration(int duration, float strength) {
+        // Intentionally empty
+    }
+
+    @Override
+    public void cancelVibration() {
+        // Intentionally empty
+    }
+
+    @Override
+    public boolean supportsPlayerIndex() {
+        return true;
+    }
+
+    @Override
+    public int getPlayerIndex() {
+        return playerIndex;
+    }
+
+    @Override
+    public void setPlayerIndex(int index) {
+        playerIndex = index;
+    }
+
+    @Override
+    public ControllerMapping getMapping() {
+        return mapping;
+    }
+
+    @Override
+    public ControllerPowerLevel getPowerLevel() {
+        return ControllerPowerLevel.POWER_UNKNOWN;
+    }
+
+    @Override
+    public void addListener(ControllerListener listener) {
+        // Intentionally empty
+    }
+
+    @Override
+    public void removeListener(ControllerListener listener) {
+        // Intentionally empty
+    }
+}
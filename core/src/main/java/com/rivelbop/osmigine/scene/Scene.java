@@ -4,10 +4,14 @@ import com.badlogic.gdx.ApplicationListener;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Array;
+import com.rivelbop.osmigine.audio.AudioBank;
 import com.rivelbop.osmigine.audio.AudioSystem;
 import com.rivelbop.osmigine.audio.MusicAsset;
 import com.rivelbop.osmigine.audio.SoundAsset;
+import com.rivelbop.osmigine.input.ActionTable;
 import com.rivelbop.osmigine.input.ControllerSystem;
+import com.rivelbop.osmigine.input.InputEventBuffer;
 import com.rivelbop.osmigine.input.InputMap;
 import com.rivelbop.osmigine.input.InputSystem;
 import com.rivelbop.osmigine.scaling.ScalingSystem;
@@ -34,8 +38,12 @@ public abstract class Scene<I, S extends Enum<S> & SoundAsset,
     private final InputSystem inputs;
     private final ControllerSystem controllers;
 
+    // Requested (and kept from eviction) when this scene is set
+    private final Array<AudioBank<S>> audioBanks = new Array<>();
+
     private float tickTimer;
     private float alpha;
+    private long tickEndTime; // The end of the current tick's input time slice (in nanoseconds)
 
     /**
      * Creates a Scene with the given tick rate.
@@ -63,6 +71,29 @@ public abstract class Scene<I, S extends Enum<S> & SoundAsset,
         this.tickRate = tickRate;
     }
 
+    /** CALL IN THE CONSTRUCTOR, the bank is loaded (asynchronously) when this scene is set. */
+    protected final void useAudioBank(AudioBank<S> bank) {
+        if (!audioBanks.contains(bank, true)) {
+            audioBanks.add(bank);
+        }
+    }
+
+    /** DO NOT ALTER, GETTER ONLY */
+    public final Array<AudioBank<S>> getAudioBanks() {
+        return audioBanks;
+    }
+
+    /**
+     * CALL IN TICK, consumes the next raw input event within the current tick's time slice (only
+     * recorded while {@link InputSystem#setEventRecording(boolean)} is enabled). Events of the
+     * slice that aren't consumed are discarded after the tick.
+     *
+     * @return Whether an event was copied into the given event.
+     */
+    protected final boolean pollTickInput(InputEventBuffer.Event event) {
+        return inputs.getEventBuffer().poll(tickEndTime, event);
+    }
+
     /** OVERRIDE IF USING TICK SYSTEM! */
     public void tick() {
         // Intentionally empty
@@ -73,10 +104,18 @@ public abstract class Scene<I, S extends Enum<S> & SoundAsset,
     @Override
     public final void render(float delta) {
         if (tickRate > 0f) {
+            long frameTime = inputs.getFrameTime(); // The recorded time while replaying
+            ActionTable<?> actionTable = sceneManager.getActionTable();
             tickTimer += delta;
             while (tickTimer >= tickRate) {
-                tick();
+                // Each tick's slice ends where the remaining (unticked) time of this frame starts
                 tickTimer -= tickRate;
+                tickEndTime = frameTime - (long) (tickTimer * 1000000000L);
+                if (actionTable != null) {
+                    actionTable.evaluateTick();
+                }
+                tick();
+                inputs.getEventBuffer().skip(tickEndTime);
 
                 inputs.postTick();
                 controllers.postTick();
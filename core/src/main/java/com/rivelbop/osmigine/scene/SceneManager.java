@@ -5,14 +5,19 @@ import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.rivelbop.osmigine.audio.AudioSystem;
 import com.rivelbop.osmigine.audio.MusicAsset;
+import com.rivelbop.osmigine.audio.PcmCache;
+import com.rivelbop.osmigine.audio.PcmDecoder;
 import com.rivelbop.osmigine.audio.SoundAsset;
+import com.rivelbop.osmigine.input.ActionTable;
 import com.rivelbop.osmigine.input.ControllerSystem;
 import com.rivelbop.osmigine.input.CursorProvider;
 import com.rivelbop.osmigine.input.InputMap;
+import com.rivelbop.osmigine.input.InputReplayer;
 import com.rivelbop.osmigine.input.InputSystem;
 import com.rivelbop.osmigine.scaling.ScalingSystem;
 import de.eskalon.commons.core.ManagedGame;
 import de.eskalon.commons.screen.transition.ScreenTransition;
+import org.jspecify.annotations.Nullable;
 
 /**
  * @param <I> The class type for InputMap keys.
@@ -31,10 +36,18 @@ public abstract class SceneManager<I, S extends Enum<S> & SoundAsset,
     protected AudioSystem<S, M> audio;
     protected Class<S> soundClass;
     protected Class<M> musicClass;
+    @Nullable
+    protected PcmCache pcmCache; // Null unless a PcmDecoder was set
 
     protected ScalingSystem scaling;
 
     private final CursorProvider cursorProvider;
+    @Nullable
+    private PcmDecoder pcmDecoder;
+    @Nullable
+    private InputReplayer inputReplayer;
+    @Nullable
+    private ActionTable<?> actionTable;
     private final int initialTargetScreenWidth;
     private final int initialTargetScreenHeight;
 
@@ -55,6 +68,14 @@ public abstract class SceneManager<I, S extends Enum<S> & SoundAsset,
         this.initialTargetScreenHeight = targetScreenHeight;
     }
 
+    /**
+     * MUST BE CALLED BEFORE create(), short sounds are then decoded once and loaded from the
+     * {@link PcmCache} afterward (see the backend's decoder, e.g. OggPcmDecoder for LWJGL3).
+     */
+    public void setPcmDecoder(@Nullable PcmDecoder pcmDecoder) {
+        this.pcmDecoder = pcmDecoder;
+    }
+
     /** Replacement for create() method. */
     public abstract void init();
 
@@ -68,11 +89,49 @@ public abstract class SceneManager<I, S extends Enum<S> & SoundAsset,
         // Intentionally empty
     }
 
+    /** Called once the input replay ended, rendering is back to real time. */
+    public void onInputReplayFinished() {
+        // Intentionally empty
+    }
+
+    /**
+     * Replays recorded input, one recorded frame per render, and renders every frame with its
+     * recorded delta time (instead of the real one) so each run ticks exactly like the recording.
+     * Frames don't wait on real time, nothing is throttled beyond the backend's own render loop.
+     *
+     * @param inputReplayer Created with this manager's inputs() and controllers(), null to stop.
+     */
+    public final void setInputReplayer(@Nullable InputReplayer inputReplayer) {
+        this.inputReplayer = inputReplayer;
+    }
+
+    public final boolean isReplayingInput() {
+        return inputReplayer != null;
+    }
+
+    /**
+     * The table is evaluated before every frame and every tick of the current scene, so its
+     * actions can be queried anywhere during them.
+     *
+     * @param actionTable Usually compiled from this manager's inputMap(), null to stop evaluating.
+     */
+    public final void setActionTable(@Nullable ActionTable<?> actionTable) {
+        this.actionTable = actionTable;
+    }
+
+    @Nullable
+    public final ActionTable<?> getActionTable() {
+        return actionTable;
+    }
+
+    /** The scene's audio banks start loading, every other bank can be evicted. */
     public final void setScene(Scene<I, S, M> scene) {
-        screenManager.pushScreen(scene, null);
+        setScene(scene, null);
     }
 
+    /** The scene's audio banks start loading, every other bank can be evicted. */
     public final void setScene(Scene<I, S, M> scene, ScreenTransition transition) {
+        audio.setBanksInUse(scene.getAudioBanks());
         screenManager.pushScreen(scene, transition);
     }
 
@@ -82,6 +141,10 @@ public abstract class SceneManager<I, S extends Enum<S> & SoundAsset,
         getScreenManager().setAutoDispose(true, true);
 
         assets = new AssetManager();
+        if (pcmDecoder != null) {
+            pcmCache = new PcmCache(pcmDecoder);
+            pcmCache.install(assets);
+        }
         spriteBatch = new SpriteBatch();
 
         inputs = new InputSystem(cursorProvider, true);
@@ -90,9 +153,9 @@ public abstract class SceneManager<I, S extends Enum<S> & SoundAsset,
 
         // Creates audio system with a default hear range "balanced" to the current window width
         audio = new AudioSystem<>(soundClass, musicClass, Gdx.graphics.getWidth() * 0.75f);
-        audio.loadToAssets(assets);
+        audio.loadToAssets(assets);    // Starts probing durations in the background
         assets.finishLoading();
-        audio.loadFromAssets(assets);
+        audio.loadFromAssets(assets);  // Joins the probed durations
 
         scaling = new ScalingSystem(initialTargetScreenWidth, initialTargetScreenHeight);
 
@@ -101,12 +164,28 @@ public abstract class SceneManager<I, S extends Enum<S> & SoundAsset,
 
     @Override
     public final void render() {
+        if (inputReplayer != null && !inputReplayer.nextFrame()) {
+            inputReplayer = null;
+            onInputReplayFinished();
+        }
+        if (inputReplayer == null) {
+            inputs.preRender(); // Replays set the recorded frame time instead
+        }
+        if (actionTable != null) {
+            actionTable.evaluateFrame();
+        }
+
         preRender();
-        super.render();
+        if (inputReplayer != null) {
+            screenManager.render(inputReplayer.getFrameDelta());
+        } else {
+            super.render();
+        }
         postRender();
 
         inputs.postRender();
         controllers.postRender();
+        assets.update(); // Asynchronous loading (e.g. the AudioSystem's banks)
         audio.postRender();
     }
 
@@ -0,0 +1,47 @@
+package com.rivelbop.osmigine.audio;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.lwjgl3.audio.OggInputStream;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+import org.jspecify.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteOrder;
+import java.util.Locale;
+
+/** Decodes OGG Vorbis sounds with the LWJGL3 backend's decoder (the one its Sound uses). */
+public final class OggPcmDecoder implements PcmDecoder {
+    private final byte[] buffer = new byte[4096];
+
+    @Nullable
+    @Override
+    public Pcm decode(FileHandle file) {
+        // The decoder outputs native order samples, WAV needs little-endian
+        if (!file.extension().toLowerCase(Locale.ROOT).equals("ogg") ||
+                ByteOrder.nativeOrder() != ByteOrder.LITTLE_ENDIAN) {
+            return null;
+        }
+
+        OggInputStream input = null;
+        try {
+            input = new OggInputStream(file.read());
+            ByteArrayOutputStream output = new ByteArrayOutputStream(4096);
+            while (!input.atEnd()) {
+                int length = input.read(buffer);
+                if (length == -1) {
+                    break;
+                }
+                output.write(buffer, 0, length);
+            }
+            return new Pcm(output.toByteArray(), input.getChannels(), input.getSampleRate());
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("OggPcmDecoder", "Error decoding " + file.path() + ": " +
+                    e.getMessage());
+            return null;
+        } finally {
+            StreamUtils.closeQuietly(input);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.badlogic.gdx.utils.Os;
 import com.badlogic.gdx.utils.SharedLibraryLoader;
 import com.esotericsoftware.kryonet.UdpConnection;
 import com.rivelbop.osmigine.Osmigine;
+import com.rivelbop.osmigine.audio.OggPcmDecoder;
 import com.rivelbop.osmigine.input.GlfwCursorProvider;
 
 /** Launches the desktop (LWJGL3) application. */
@@ -17,7 +18,9 @@ public class Lwjgl3Launcher {
 
     private static Lwjgl3Application createApplication() {
         UdpConnection.androidFixDisabled = true; // Speed up connection time on Desktop
-        return new Lwjgl3Application(new Osmigine(new GlfwCursorProvider()), getDefaultConfiguration());
+        Osmigine game = new Osmigine(new GlfwCursorProvider());
+        game.setPcmDecoder(new OggPcmDecoder()); // Short sounds skip the Vorbis decode on warm starts
+        return new Lwjgl3Application(game, getDefaultConfiguration());
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {